@@ -42,6 +42,9 @@ public abstract class Agent {
   protected Grabber trackedGrabber, defaultGrabber;
   protected boolean agentTrckn;
   protected InputHandler handler;
+  protected GrabberIndex grabberIndex;
+  protected List<Grabber> candidates = new ArrayList<Grabber>();
+  protected float[] sens = {1f, 1f, 1f, 1f, 1f, 1f};
 
   /**
    * Constructs an Agent and registers is at the given inputHandler.
@@ -68,7 +71,10 @@ public abstract class Agent {
       setDefaultGrabber(null);
     if (trackedGrabber() == grabber)
       resetTrackedGrabber();
-    return grabberList.remove(grabber);
+    boolean result = grabberList.remove(grabber);
+    if (result && grabberIndex != null)
+      grabberIndex.invalidate();
+    return result;
   }
 
   /**
@@ -83,6 +89,8 @@ public abstract class Agent {
     setDefaultGrabber(null);
     trackedGrabber = null;
     grabberList.clear();
+    if (grabberIndex != null)
+      grabberIndex.invalidate();
   }
 
   /**
@@ -125,7 +133,45 @@ public abstract class Agent {
       return false;
     if (hasGrabber(grabber))
       return false;
-    return grabberList.add(grabber);
+    boolean result = grabberList.add(grabber);
+    if (result && grabberIndex != null)
+      grabberIndex.invalidate();
+    return result;
+  }
+
+  /**
+   * Sets the spatial index used to narrow down the {@link #grabbers()} queried by
+   * {@link #updateTrackedGrabber(BogusEvent)}. Pass null (default) to query all of them.
+   *
+   * @see #grabberIndex()
+   */
+  public void setGrabberIndex(GrabberIndex index) {
+    grabberIndex = index;
+    if (grabberIndex != null)
+      grabberIndex.invalidate();
+  }
+
+  /**
+   * Returns the spatial index used by {@link #updateTrackedGrabber(BogusEvent)}, or null
+   * if none is set.
+   *
+   * @see #setGrabberIndex(GrabberIndex)
+   */
+  public GrabberIndex grabberIndex() {
+    return grabberIndex;
+  }
+
+  /**
+   * Handles the events the agent gathered since the last call. Does nothing by default.
+   * <p>
+   * Automatically called by the main event loop (
+   * {@link remixlab.bias.core.InputHandler#handle()}) before the feeds. Agents receiving
+   * events from other threads (such as ProScene's ConcurrentAgent) should override it to
+   * {@link #handle(BogusEvent)} them on the main event loop thread.
+   *
+   * @see #feed()
+   */
+  protected void pollEvents() {
   }
 
   /**
@@ -198,6 +244,8 @@ public abstract class Agent {
    * returned. Note that a null grabber means that no object in the {@link #grabbers()}
    * met the condition. A {@link #inputGrabber()} may also be enforced simply with
    * {@link #setDefaultGrabber(Grabber)}.
+   * <p>
+   * When a {@link #grabberIndex()} is set, only the candidates it reports are queried.
    *
    * @param event to query the {@link #grabbers()}
    * @return the new grabber which may be null.
@@ -227,7 +275,13 @@ public abstract class Agent {
         return trackedGrabber();
     // pick the first otherwise
     trackedGrabber = null;
-    for (Grabber grabber : grabberList)
+    List<Grabber> list = grabberList;
+    if (grabberIndex != null) {
+      candidates.clear();
+      if (grabberIndex.candidates(this, event, candidates))
+        list = candidates;
+    }
+    for (Grabber grabber : list)
       if (grabber != dG && grabber != tG)
         if (grabber.checkIfGrabsInput(event)) {
           trackedGrabber = grabber;
@@ -238,37 +292,48 @@ public abstract class Agent {
 
   /**
    * Returns the sensitivities used in {@link #handle(BogusEvent)} to
-   * {@link remixlab.bias.event.MotionEvent#modulate(float[])}.
+   * {@link remixlab.bias.event.MotionEvent#modulate(float[])}. The returned array is
+   * reused between calls, so don't modify it.
    */
   public float[] sensitivities(MotionEvent event) {
-    return new float[]{1f, 1f, 1f, 1f, 1f, 1f};
+    return sens;
   }
 
   /**
-   * Enqueues an EventGrabberTuple(event, inputGrabber()) on the
+   * Enqueues an (event, inputGrabber()) tuple on the
    * {@link remixlab.bias.core.InputHandler#eventTupleQueue()}, thus enabling a call on
    * the {@link #inputGrabber()}
    * {@link remixlab.bias.core.Grabber#performInteraction(BogusEvent)} method (which is
    * scheduled for execution till the end of this main event loop iteration, see
-   * {@link remixlab.bias.core.InputHandler#enqueueEventTuple(EventGrabberTuple)} for
+   * {@link remixlab.bias.core.InputHandler#enqueueEventTuple(BogusEvent, Grabber)} for
    * details).
+   * <p>
+   * A {@link remixlab.bias.core.BogusEvent#isPooled()} event is released once performed,
+   * or right away if it couldn't be enqueued, so the caller shouldn't use it afterwards.
    *
    * @see #inputGrabber()
    * @see #updateTrackedGrabber(BogusEvent)
    */
   protected boolean handle(BogusEvent event) {
-    if (event == null || !handler.isAgentRegistered(this) || inputHandler() == null)
+    if (event == null)
       return false;
-    if (event instanceof MotionEvent)
-      if (((MotionEvent) event).isAbsolute())
-        if (event.isNull() && !event.flushed())
-          return false;
-    if (event instanceof MotionEvent)
-      ((MotionEvent) event).modulate(sensitivities((MotionEvent) event));
-    Grabber inputGrabber = inputGrabber();
-    if (inputGrabber != null)
-      return inputHandler().enqueueEventTuple(new EventGrabberTuple(event, inputGrabber));
-    return false;
+    boolean enqueued = false;
+    if (handler.isAgentRegistered(this) && inputHandler() != null) {
+      boolean skip = false;
+      if (event instanceof MotionEvent)
+        if (((MotionEvent) event).isAbsolute())
+          skip = event.isNull() && !event.flushed();
+      if (!skip) {
+        if (event instanceof MotionEvent)
+          ((MotionEvent) event).modulate(sensitivities((MotionEvent) event));
+        Grabber inputGrabber = inputGrabber();
+        if (inputGrabber != null)
+          enqueued = inputHandler().enqueueEventTuple(event, inputGrabber);
+      }
+    }
+    if (!enqueued)
+      event.release();
+    return enqueued;
   }
 
   /**
@@ -11,8 +11,6 @@
 package remixlab.bias.core;
 
 import remixlab.util.Copyable;
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
 
 /**
  * The root of all events that are to be handled by an {@link remixlab.bias.core.Agent}.
@@ -40,6 +38,10 @@ import remixlab.util.HashCodeBuilder;
  * {@link remixlab.bias.core.Agent#handleFeed()} provides a callback alternative when none
  * of these mechanisms are available (as it often happens when dealing with specialized,
  * non-default input hardware).
+ * <p>
+ * Events may also be recycled from an {@link remixlab.bias.core.EventPool} (see
+ * {@link #release()}) so that high-rate agents don't generate any garbage. Pooled events
+ * are (re)initialized with their {@code set} methods.
  */
 public class BogusEvent implements Copyable {
   // modifier keys
@@ -53,9 +55,13 @@ public class BogusEvent implements Copyable {
 
   private boolean fire, flush;
 
+  // pool this event belongs to (null if the event isn't pooled), see release()
+  EventPool<?> pool;
+  boolean recycled;
+
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(modifiers).append(id).toHashCode();
+    return 37 * (37 * 17 + modifiers) + id;
   }
 
   @Override
@@ -68,12 +74,13 @@ public class BogusEvent implements Copyable {
       return false;
 
     BogusEvent other = (BogusEvent) obj;
-    return new EqualsBuilder().append(modifiers, other.modifiers).append(id, other.id).isEquals();
+    return modifiers == other.modifiers && id == other.id;
   }
 
-  protected final int modifiers;
+  protected int modifiers;
   protected long timestamp;
   protected int id;
+  protected Shortcut cachedShortcut;
 
   /**
    * Constructs an event with an "empty" {@link remixlab.bias.core.Shortcut}.
@@ -108,8 +115,71 @@ public class BogusEvent implements Copyable {
   }
 
   /**
-   * Same as {@code this.get()} but sets the {@link #flushed()} flag to true. Only agents
-   * may call this.
+   * Copies the {@code other} event attributes into this event (only those defined by this
+   * event type). Mainly meant to reuse events, see {@link #release()}.
+   */
+  public BogusEvent set(BogusEvent other) {
+    this.modifiers = other.modifiers;
+    this.id = other.id;
+    this.timestamp = other.timestamp;
+    this.fire = other.fire;
+    this.flush = other.flush;
+    cachedShortcut = null;
+    return this;
+  }
+
+  /**
+   * Reinitializes the event taking the given {@code modifiers} and {@code id} as a
+   * {@link remixlab.bias.core.Shortcut}, as the {@link #BogusEvent(int, int)} constructor
+   * does. Derived classes should call it from their {@code set} methods.
+   */
+  protected void reset(int modifiers, int id) {
+    this.modifiers = modifiers;
+    this.id = id;
+    timestamp = System.currentTimeMillis();
+    fire = false;
+    flush = false;
+    cachedShortcut = null;
+  }
+
+  /**
+   * Returns {@code true} if the event was obtained from an
+   * {@link remixlab.bias.core.EventPool}.
+   *
+   * @see #release()
+   */
+  public boolean isPooled() {
+    return pool != null;
+  }
+
+  /**
+   * Gives a pooled event back to its {@link remixlab.bias.core.EventPool}, so that it gets
+   * reused by a later {@link remixlab.bias.core.EventPool#obtain()}. Does nothing if the
+   * event isn't {@link #isPooled()} or if it has already been released.
+   * <p>
+   * Pooled events are released by the {@link remixlab.bias.core.InputHandler} right after
+   * their {@link remixlab.bias.core.EventGrabberTuple#perform()} (and by
+   * {@link remixlab.bias.core.Agent#handle(BogusEvent)} if they're not enqueued at all).
+   * Hence, grabbers and user-defined actions should keep a {@link #get()} copy of any
+   * event they need to retain after the interaction is performed.
+   */
+  public void release() {
+    if (pool == null || recycled)
+      return;
+    recycled = true;
+    pool.recycle(this);
+  }
+
+  // copy used by fire() and flush(): pooled events are copied into an event from the same
+  // pool
+  private BogusEvent copy() {
+    return pool == null ? get() : pool.obtain().set(this);
+  }
+
+  /**
+   * Same as {@code this.get()} but sets the {@link #flushed()} flag to true. The copy is
+   * taken from the event pool if the event {@link #isPooled()}. Only agents may call
+   * this.
    *
    * @see #flushed()
    */
@@ -118,14 +188,15 @@ public class BogusEvent implements Copyable {
       System.out.println("Warning: event already " + (fired() ? "fired" : "flushed"));
       return this;
     }
-    BogusEvent bogusevent = this.get();
+    BogusEvent bogusevent = copy();
     bogusevent.flush = true;
     return bogusevent;
   }
 
   /**
-   * Same as {@code this.get()} but sets the {@link #fired()} flag to true. Only agents
-   * may call this.
+   * Same as {@code this.get()} but sets the {@link #fired()} flag to true. The copy is
+   * taken from the event pool if the event {@link #isPooled()}. Only agents may call
+   * this.
    *
    * @see #flushed()
    */
@@ -134,7 +205,7 @@ public class BogusEvent implements Copyable {
       System.out.println("Warning: event already " + (fired() ? "fired" : "flushed"));
       return this;
     }
-    BogusEvent bogusevent = this.get();
+    BogusEvent bogusevent = copy();
     bogusevent.fire = true;
     return bogusevent;
   }
@@ -164,7 +235,9 @@ public class BogusEvent implements Copyable {
    * @see remixlab.bias.core.Shortcut
    */
   public Shortcut shortcut() {
-    return new Shortcut(modifiers(), id());
+    if (cachedShortcut == null)
+      cachedShortcut = new Shortcut(modifiers(), id());
+    return cachedShortcut;
   }
 
   /**
@@ -22,6 +22,8 @@ package remixlab.bias.core;
 public class EventGrabberTuple {
   protected BogusEvent event;
   protected Grabber grabber;
+  // tuples owned by an EventTupleQueue are reused once performed
+  boolean owned;
 
   /**
    * Constructs a {@link remixlab.bias.core.BogusEvent},
@@ -0,0 +1,85 @@
+/**************************************************************************************
+ * bias_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.bias.core;
+
+/**
+ * Bounded pool of recyclable {@link remixlab.bias.core.BogusEvent}s of a given type.
+ * <p>
+ * Agents reporting events at high rates (e.g., mice polled at 1 kHz or 6-DOF devices)
+ * {@link #obtain()} them from the pool instead of instantiating new ones. Pooled events
+ * are given back to their pool with {@link remixlab.bias.core.BogusEvent#release()},
+ * which the {@link remixlab.bias.core.InputHandler} calls right after the event's
+ * {@link remixlab.bias.core.EventGrabberTuple#perform()}. Events released when the pool
+ * is full are simply left to the garbage collector.
+ * <p>
+ * Derive from this class implementing {@link #create()}. See for instance
+ * {@link remixlab.bias.event.DOF2Event#obtain()}.
+ */
+public abstract class EventPool<E extends BogusEvent> {
+  protected BogusEvent[] free;
+  protected int size;
+
+  /**
+   * Same as {@code this(128)}.
+   */
+  public EventPool() {
+    this(128);
+  }
+
+  /**
+   * Constructs a pool keeping up to {@code capacity} released events.
+   */
+  public EventPool(int capacity) {
+    free = new BogusEvent[Math.max(capacity, 0)];
+  }
+
+  /**
+   * Returns a new event of the pool type. Its attributes are not relevant since
+   * {@link #obtain()} callers should initialize them.
+   */
+  protected abstract E create();
+
+  /**
+   * Returns a released event of the pool (or a new one if none is available). The
+   * returned event attributes should be (re)initialized by the caller.
+   */
+  @SuppressWarnings("unchecked")
+  public synchronized E obtain() {
+    E event;
+    if (size > 0) {
+      event = (E) free[--size];
+      free[size] = null;
+    } else
+      event = create();
+    event.pool = this;
+    event.recycled = false;
+    return event;
+  }
+
+  /**
+   * Returns the number of released events currently held by the pool.
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Returns the maximum number of released events the pool may hold.
+   */
+  public int capacity() {
+    return free.length;
+  }
+
+  synchronized void recycle(BogusEvent event) {
+    if (size < free.length)
+      free[size++] = event;
+  }
+}
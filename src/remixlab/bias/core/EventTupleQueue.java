@@ -0,0 +1,243 @@
+/**************************************************************************************
+ * bias_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.bias.core;
+
+import remixlab.bias.event.MotionEvent;
+
+/**
+ * FIFO of {@link remixlab.bias.core.EventGrabberTuple}s used by the
+ * {@link remixlab.bias.core.InputHandler} (see
+ * {@link remixlab.bias.core.InputHandler#eventTupleQueue()}).
+ * <p>
+ * The queue is a ring buffer. Tuples enqueued from an event and a grabber (see
+ * {@link #add(BogusEvent, Grabber, boolean)}) are taken from a set of tuples owned by
+ * the queue, so that enqueueing and performing them doesn't allocate. When the queue
+ * {@link #isFull()} its capacity is doubled (see {@link #grow()}), so that no event is
+ * ever dropped (e.g., a lost release event would leave a drag stuck). Consecutive
+ * relative motion events aimed at the same grabber and having the same shortcut may be
+ * coalesced into a single accumulated event (see
+ * {@link remixlab.bias.event.MotionEvent#coalesce(MotionEvent)}), which keeps the number
+ * of tuples performed per frame bounded when a device reports events faster than the
+ * frame rate.
+ */
+public class EventTupleQueue {
+  public static final int DEFAULT_CAPACITY = 256;
+
+  protected EventGrabberTuple[] queue;
+  protected int head, size;
+  // free tuples owned by the queue
+  protected EventGrabberTuple[] free;
+  protected int freeCount;
+
+  /**
+   * Same as {@code this(DEFAULT_CAPACITY)}.
+   */
+  public EventTupleQueue() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a queue which initially holds up to {@code capacity} tuples.
+   */
+  public EventTupleQueue(int capacity) {
+    capacity = Math.max(capacity, 1);
+    queue = new EventGrabberTuple[capacity];
+    free = new EventGrabberTuple[capacity];
+    for (int i = 0; i < capacity; i++) {
+      free[i] = new EventGrabberTuple(null, null);
+      free[i].owned = true;
+    }
+    freeCount = capacity;
+  }
+
+  /**
+   * Returns the number of tuples the queue may hold before {@link #grow()}ing.
+   */
+  public int capacity() {
+    return queue.length;
+  }
+
+  /**
+   * Returns the number of enqueued tuples.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if there are no enqueued tuples.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns {@code true} if the queue holds {@link #capacity()} tuples.
+   */
+  public boolean isFull() {
+    return size == queue.length;
+  }
+
+  /**
+   * Returns the {@code i}-th enqueued tuple, {@code 0} being the next one to be performed.
+   * Tuples owned by the queue are reused once performed, so don't keep them.
+   */
+  public EventGrabberTuple get(int i) {
+    if (i < 0 || i >= size)
+      throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+    return queue[(head + i) % queue.length];
+  }
+
+  /**
+   * Enqueues the (user-defined) {@code tuple}. Returns {@code false} if the tuple is null
+   * or already enqueued.
+   */
+  public boolean add(EventGrabberTuple tuple) {
+    if (tuple == null)
+      return false;
+    for (int i = 0; i < size; i++)
+      if (queue[(head + i) % queue.length] == tuple)
+        return false;
+    if (isFull())
+      grow();
+    push(tuple);
+    return true;
+  }
+
+  /**
+   * Enqueues an {@code (event, grabber)} tuple. Always returns {@code true}.
+   * <p>
+   * If {@code coalesce} is {@code true} and the last enqueued tuple has the same grabber
+   * and a pooled (see {@link remixlab.bias.core.BogusEvent#isPooled()}) motion event,
+   * the {@code event} is accumulated into it (see
+   * {@link remixlab.bias.event.MotionEvent#coalesce(MotionEvent)}) and then released.
+   */
+  public boolean add(BogusEvent event, Grabber grabber, boolean coalesce) {
+    if (coalesce && size > 0 && event instanceof MotionEvent) {
+      EventGrabberTuple last = queue[(head + size - 1) % queue.length];
+      if (last.owned && last.grabber == grabber && last.event instanceof MotionEvent && last.event.isPooled())
+        if (((MotionEvent) last.event).coalesce((MotionEvent) event)) {
+          if (event != last.event)
+            event.release();
+          return true;
+        }
+    }
+    if (isFull())
+      grow();
+    EventGrabberTuple tuple = free[--freeCount];
+    free[freeCount] = null;
+    tuple.event = event;
+    tuple.grabber = grabber;
+    push(tuple);
+    return true;
+  }
+
+  /**
+   * Dequeues the next tuple, performs it (see
+   * {@link remixlab.bias.core.EventGrabberTuple#perform()}) and releases its event (see
+   * {@link remixlab.bias.core.BogusEvent#release()}). Returns {@code false} if the queue
+   * is empty.
+   */
+  public boolean performNext() {
+    if (size == 0)
+      return false;
+    EventGrabberTuple tuple = poll();
+    if (tuple.owned) {
+      // the tuple is recycled before performing it, since the interaction may enqueue
+      // new tuples
+      BogusEvent event = tuple.event;
+      Grabber grabber = tuple.grabber;
+      recycle(tuple);
+      if (grabber != null && event != null) {
+        grabber.performInteraction(event);
+        event.release();
+      }
+    } else {
+      tuple.perform();
+      if (tuple.event() != null)
+        tuple.event().release();
+    }
+    return true;
+  }
+
+  /**
+   * Removes the tuples having the given {@code event} from the queue. Nothing is
+   * executed.
+   */
+  public void remove(BogusEvent event) {
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      EventGrabberTuple tuple = queue[(head + i) % queue.length];
+      if (tuple.event == event) {
+        if (tuple.owned)
+          recycle(tuple);
+      } else
+        queue[(head + kept++) % queue.length] = tuple;
+    }
+    for (int i = kept; i < size; i++)
+      queue[(head + i) % queue.length] = null;
+    size = kept;
+  }
+
+  /**
+   * Removes all the tuples from the queue, releasing their events. Nothing is executed.
+   */
+  public void clear() {
+    while (size > 0) {
+      EventGrabberTuple tuple = poll();
+      BogusEvent event = tuple.event;
+      if (tuple.owned)
+        recycle(tuple);
+      if (event != null)
+        event.release();
+    }
+    head = 0;
+  }
+
+  /**
+   * Doubles the queue {@link #capacity()}, keeping the enqueued tuples in order. Called
+   * when a tuple is added to a full queue.
+   */
+  protected void grow() {
+    int capacity = queue.length;
+    EventGrabberTuple[] grownQueue = new EventGrabberTuple[2 * capacity];
+    for (int i = 0; i < size; i++)
+      grownQueue[i] = queue[(head + i) % capacity];
+    queue = grownQueue;
+    head = 0;
+    EventGrabberTuple[] grownFree = new EventGrabberTuple[free.length + capacity];
+    System.arraycopy(free, 0, grownFree, 0, freeCount);
+    for (int i = 0; i < capacity; i++) {
+      grownFree[freeCount] = new EventGrabberTuple(null, null);
+      grownFree[freeCount++].owned = true;
+    }
+    free = grownFree;
+  }
+
+  protected void push(EventGrabberTuple tuple) {
+    queue[(head + size) % queue.length] = tuple;
+    size++;
+  }
+
+  protected EventGrabberTuple poll() {
+    EventGrabberTuple tuple = queue[head];
+    queue[head] = null;
+    head = (head + 1) % queue.length;
+    size--;
+    return tuple;
+  }
+
+  protected void recycle(EventGrabberTuple tuple) {
+    tuple.event = null;
+    tuple.grabber = null;
+    free[freeCount++] = tuple;
+  }
+}
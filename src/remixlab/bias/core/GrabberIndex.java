@@ -0,0 +1,42 @@
+/**************************************************************************************
+ * bias_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.bias.core;
+
+import java.util.List;
+
+/**
+ * Spatial index used by an {@link remixlab.bias.core.Agent} to narrow down the
+ * {@link remixlab.bias.core.Agent#grabbers()} that should be queried by
+ * {@link remixlab.bias.core.Agent#updateTrackedGrabber(BogusEvent)}.
+ * <p>
+ * Instead of checking each grabber in turn, the agent asks the index for the grabbers
+ * that may meet the {@link remixlab.bias.core.Grabber#checkIfGrabsInput(BogusEvent)}
+ * condition and then checks only those. Since the first grabber meeting the condition is
+ * picked, candidates should be reported in {@link remixlab.bias.core.Agent#grabbers()}
+ * order, and no grabber that may meet the condition should be left out.
+ *
+ * @see remixlab.bias.core.Agent#setGrabberIndex(GrabberIndex)
+ */
+public interface GrabberIndex {
+  /**
+   * Appends to {@code candidates} (in {@link remixlab.bias.core.Agent#grabbers()} order)
+   * the grabbers of the {@code agent} that may grab the given {@code event}. Returns
+   * {@code false} if the index cannot handle the event, in which case all the agent
+   * grabbers are queried.
+   */
+  boolean candidates(Agent agent, BogusEvent event, List<Grabber> candidates);
+
+  /**
+   * Notifies the index that the agent {@link remixlab.bias.core.Agent#grabbers()} list
+   * has changed.
+   */
+  void invalidate();
+}
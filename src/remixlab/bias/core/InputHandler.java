@@ -11,7 +11,6 @@
 package remixlab.bias.core;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -27,17 +26,33 @@ import java.util.List;
  * {@link #handle()}. Therefore, simply attach a call to {@link #handle()} at the end of
  * your main event (drawing) loop for that to take effect (like it's done in
  * <b>dandelion</b> by the <b>AbstractScene.postDraw()</b> method).
+ * <p>
+ * The tuple queue grows as needed, and it may coalesce consecutive motion events
+ * (see {@link #enableMotionCoalescing()}) to keep the number of interactions performed
+ * per frame bounded when a device floods events.
  */
 public class InputHandler {
   // D E V I C E S & E V E N T S
   protected List<Agent> agents;
-  protected LinkedList<EventGrabberTuple> eventTupleQueue;
+  protected EventTupleQueue eventTupleQueue;
+  protected boolean coalesce;
 
+  /**
+   * Same as {@code this(EventTupleQueue.DEFAULT_CAPACITY)}.
+   */
   public InputHandler() {
+    this(EventTupleQueue.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs an input handler which {@link #eventTupleQueue()} initially holds up to
+   * {@code capacity} tuples.
+   */
+  public InputHandler(int capacity) {
     // agents
     agents = new ArrayList<Agent>();
     // events
-    eventTupleQueue = new LinkedList<EventGrabberTuple>();
+    eventTupleQueue = new EventTupleQueue(capacity);
   }
 
   /**
@@ -47,8 +62,8 @@ public class InputHandler {
    * The handle comprises the following two loops:
    * <p>
    * 1. {@link remixlab.bias.core.EventGrabberTuple} producer loop which for each
-   * registered agent calls: a.
-   * {@link remixlab.bias.core.Agent#updateTrackedGrabber(BogusEvent)}; and, b.
+   * registered agent calls: a. {@link remixlab.bias.core.Agent#pollEvents()}; b.
+   * {@link remixlab.bias.core.Agent#updateTrackedGrabber(BogusEvent)}; and, c.
    * {@link remixlab.bias.core.Agent#handle(BogusEvent)}. Note that the bogus event are
    * obtained from the agents callback
    * {@link remixlab.bias.core.Agent#updateTrackedGrabberFeed()} and
@@ -57,7 +72,8 @@ public class InputHandler {
    * replace both of the previous feeds when they are null.<br>
    * 2. User-defined action consumer loop: which for each
    * {@link remixlab.bias.core.EventGrabberTuple} calls
-   * {@link remixlab.bias.core.EventGrabberTuple#perform()}.<br>
+   * {@link remixlab.bias.core.EventGrabberTuple#perform()}, and then releases the tuple
+   * event (see {@link remixlab.bias.core.BogusEvent#release()}).<br>
    *
    * @see remixlab.bias.core.Agent#feed()
    * @see remixlab.bias.core.Agent#updateTrackedGrabberFeed()
@@ -66,13 +82,14 @@ public class InputHandler {
   public void handle() {
     // 1. Agents
     for (Agent agent : agents()) {
+      agent.pollEvents();
       agent.updateTrackedGrabber(
           agent.updateTrackedGrabberFeed() != null ? agent.updateTrackedGrabberFeed() : agent.feed());
       agent.handle(agent.handleFeed() != null ? agent.handleFeed() : agent.feed());
     }
     // 2. Low level events
     while (!eventTupleQueue.isEmpty())
-      eventTupleQueue.remove().perform();
+      eventTupleQueue.performNext();
   }
 
   /**
@@ -192,20 +209,71 @@ public class InputHandler {
   /**
    * Returns the event tuple queue. Rarely needed.
    */
-  public LinkedList<EventGrabberTuple> eventTupleQueue() {
+  public EventTupleQueue eventTupleQueue() {
     return eventTupleQueue;
   }
 
   /**
    * Enqueues the eventTuple for later execution which happens at the end of
-   * {@link #handle()}. Returns {@code true} if succeeded and {@code false} otherwise.
+   * {@link #handle()}. Returns {@code true} if succeeded and {@code false} otherwise
+   * (i.e., if the tuple is already enqueued).
    *
    * @see #handle()
    */
   public boolean enqueueEventTuple(EventGrabberTuple eventTuple) {
-    if (!eventTupleQueue.contains(eventTuple))
-      return eventTupleQueue.add(eventTuple);
-    return false;
+    return eventTupleQueue.add(eventTuple);
+  }
+
+  /**
+   * Enqueues an {@code (event, grabber)} tuple for later execution which happens at the
+   * end of {@link #handle()}, without instantiating it. The event may be coalesced with
+   * the previously enqueued one (see {@link #isMotionCoalescingEnabled()}). Returns
+   * {@code true} if succeeded and {@code false} otherwise.
+   *
+   * @see #enqueueEventTuple(EventGrabberTuple)
+   */
+  public boolean enqueueEventTuple(BogusEvent event, Grabber grabber) {
+    if (event == null || grabber == null)
+      return false;
+    return eventTupleQueue.add(event, grabber, coalesce);
+  }
+
+  /**
+   * Enables motion coalescing: consecutive relative (pooled) motion events aimed at the
+   * same grabber and having the same shortcut are accumulated into a single event before
+   * being performed. Disabled by default.
+   *
+   * @see remixlab.bias.event.MotionEvent#coalesce(remixlab.bias.event.MotionEvent)
+   */
+  public void enableMotionCoalescing() {
+    coalesce = true;
+  }
+
+  /**
+   * Disables motion coalescing.
+   *
+   * @see #enableMotionCoalescing()
+   */
+  public void disableMotionCoalescing() {
+    coalesce = false;
+  }
+
+  /**
+   * Toggles motion coalescing.
+   *
+   * @see #enableMotionCoalescing()
+   */
+  public void toggleMotionCoalescing() {
+    coalesce = !coalesce;
+  }
+
+  /**
+   * Returns {@code true} if motion coalescing is enabled.
+   *
+   * @see #enableMotionCoalescing()
+   */
+  public boolean isMotionCoalescingEnabled() {
+    return coalesce;
   }
 
   /**
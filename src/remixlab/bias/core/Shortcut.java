@@ -10,9 +10,6 @@
 
 package remixlab.bias.core;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
-
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -70,7 +67,7 @@ import java.util.HashMap;
 public class Shortcut {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(mask).append(id).toHashCode();
+    return hash;
   }
 
   @Override
@@ -83,11 +80,14 @@ public class Shortcut {
       return false;
 
     Shortcut other = (Shortcut) obj;
-    return new EqualsBuilder().append(mask, other.mask).append(id, other.id).isEquals();
+    return mask == other.mask && id == other.id;
   }
 
   protected final int mask;
   protected final int id;
+  // shortcuts are immutable: hashCode() and packedKey() are computed at construction
+  protected int hash;
+  protected long pkey;
   protected static HashMap<String, String> ids = new HashMap<String, String>();
 
   /**
@@ -95,8 +95,7 @@ public class Shortcut {
    * parameter being NO_NOMODIFIER_MASK.
    */
   public Shortcut() {
-    mask = BogusEvent.NO_MODIFIER_MASK;
-    id = BogusEvent.NO_ID;
+    this(BogusEvent.NO_MODIFIER_MASK, BogusEvent.NO_ID);
   }
 
   /**
@@ -105,8 +104,7 @@ public class Shortcut {
    * @param _id gesture-id
    */
   public Shortcut(int _id) {
-    mask = BogusEvent.NO_MODIFIER_MASK;
-    id = _id;
+    this(BogusEvent.NO_MODIFIER_MASK, _id);
   }
 
   /**
@@ -115,6 +113,31 @@ public class Shortcut {
   public Shortcut(int m, int i) {
     mask = m;
     id = i;
+    hash = 37 * (37 * 17 + mask) + id;
+    pkey = getClass() == Shortcut.class ? pack(0, mask, id, 0) : -1;
+  }
+
+  /**
+   * Returns a non-negative long packing the shortcut type, {@link #modifiers()},
+   * {@link #id()} and type specific attributes (such as the click count), which may be
+   * used as a primitive key of the shortcut (see {@link remixlab.bias.ext.Profile}).
+   * Returns -1 if the shortcut can't be packed, e.g., if it's of a custom type.
+   */
+  public long packedKey() {
+    return pkey;
+  }
+
+  /**
+   * Packs the shortcut {@code type} (0-15), modifiers {@code mask} (0-255), {@code id}
+   * and {@code extra} attribute (0-65535) into a non-negative long. Returns -1 if they
+   * don't fit.
+   *
+   * @see #packedKey()
+   */
+  protected static long pack(int type, int mask, int id, int extra) {
+    if (type < 0 || type > 0xf || mask < 0 || mask > 0xff || extra < 0 || extra > 0xffff)
+      return -1;
+    return ((long) type << 56) | ((long) mask << 48) | ((id & 0xffffffffL) << 16) | extra;
   }
 
   /**
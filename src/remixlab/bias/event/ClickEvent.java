@@ -11,8 +11,8 @@
 package remixlab.bias.event;
 
 import remixlab.bias.core.BogusEvent;
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
+import remixlab.bias.core.EventPool;
+import remixlab.util.Util;
 
 /**
  * A click event encapsulates a {@link remixlab.bias.event.ClickShortcut} and it's defined
@@ -22,8 +22,11 @@ import remixlab.util.HashCodeBuilder;
 public class ClickEvent extends BogusEvent {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(x).append(y).append(numberOfClicks)
-        .toHashCode();
+    int h = 37 * 17 + super.hashCode();
+    h = 37 * h + Util.hash(x);
+    h = 37 * h + Util.hash(y);
+    h = 37 * h + numberOfClicks;
+    return h;
   }
 
   @Override
@@ -36,12 +39,12 @@ public class ClickEvent extends BogusEvent {
       return false;
 
     ClickEvent other = (ClickEvent) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(numberOfClicks, other.numberOfClicks)
-        .append(x, other.x).append(y, other.y).isEquals();
+    return super.equals(obj) && numberOfClicks == other.numberOfClicks && Util.identical(x, other.x) &&
+        Util.identical(y, other.y);
   }
 
   protected float x, y;
-  protected final int numberOfClicks;
+  protected int numberOfClicks;
 
   /**
    * Constructs a single click ClickEvent at the given position and from the given
@@ -114,9 +117,51 @@ public class ClickEvent extends BogusEvent {
     return (ClickEvent) super.fire();
   }
 
+  protected static final EventPool<ClickEvent> eventPool = new EventPool<ClickEvent>() {
+    @Override
+    protected ClickEvent create() {
+      return new ClickEvent(0, 0, NO_ID);
+    }
+  };
+
+  /**
+   * Returns a ClickEvent from the pool of this event type, to be initialized with one of
+   * the {@code set} methods.
+   *
+   * @see remixlab.bias.core.BogusEvent#release()
+   */
+  public static ClickEvent obtain() {
+    return eventPool.obtain();
+  }
+
+  @Override
+  public ClickEvent set(BogusEvent other) {
+    super.set(other);
+    if (other instanceof ClickEvent) {
+      this.x = ((ClickEvent) other).x;
+      this.y = ((ClickEvent) other).y;
+      this.numberOfClicks = ((ClickEvent) other).numberOfClicks;
+    }
+    return this;
+  }
+
+  /**
+   * Reinitializes this event. Same parameters as
+   * {@link #ClickEvent(float, float, int, int, int)}.
+   */
+  public ClickEvent set(float x, float y, int modifiers, int b, int clicks) {
+    reset(modifiers, b);
+    this.x = x;
+    this.y = y;
+    this.numberOfClicks = clicks;
+    return this;
+  }
+
   @Override
   public ClickShortcut shortcut() {
-    return new ClickShortcut(modifiers(), id(), clickCount());
+    if (!(cachedShortcut instanceof ClickShortcut))
+      cachedShortcut = new ClickShortcut(modifiers(), id(), clickCount());
+    return (ClickShortcut) cachedShortcut;
   }
 
   /**
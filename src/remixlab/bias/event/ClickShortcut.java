@@ -12,8 +12,6 @@ package remixlab.bias.event;
 
 import remixlab.bias.core.BogusEvent;
 import remixlab.bias.core.Shortcut;
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
 
 /**
  * This class represents {@link remixlab.bias.event.ClickEvent} shortcuts.
@@ -25,11 +23,6 @@ import remixlab.util.HashCodeBuilder;
  * Note that click shortcuts should have at least one click.
  */
 public class ClickShortcut extends Shortcut {
-  @Override
-  public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(numberOfClicks).toHashCode();
-  }
-
   @Override
   public boolean equals(Object obj) {
     if (obj == null)
@@ -40,7 +33,7 @@ public class ClickShortcut extends Shortcut {
       return false;
 
     ClickShortcut other = (ClickShortcut) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(numberOfClicks, other.numberOfClicks).isEquals();
+    return super.equals(obj) && numberOfClicks == other.numberOfClicks;
   }
 
   protected final int numberOfClicks;
@@ -78,6 +71,8 @@ public class ClickShortcut extends Shortcut {
       this.numberOfClicks = 1;
     else
       this.numberOfClicks = c;
+    hash = 37 * (37 * 17 + hash) + numberOfClicks;
+    pkey = getClass() == ClickShortcut.class ? pack(2, mask, id, numberOfClicks) : -1;
   }
 
   @Override
@@ -10,8 +10,8 @@
 
 package remixlab.bias.event;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
+import remixlab.bias.core.BogusEvent;
+import remixlab.bias.core.EventPool;
 import remixlab.util.Util;
 
 /**
@@ -20,7 +20,10 @@ import remixlab.util.Util;
 public class DOF1Event extends MotionEvent {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(x).append(dx).toHashCode();
+    int h = 37 * 17 + super.hashCode();
+    h = 37 * h + Util.hash(x);
+    h = 37 * h + Util.hash(dx);
+    return h;
   }
 
   @Override
@@ -33,7 +36,7 @@ public class DOF1Event extends MotionEvent {
       return false;
 
     DOF1Event other = (DOF1Event) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(x, other.x).append(dx, other.dx).isEquals();
+    return super.equals(obj) && Util.identical(x, other.x) && Util.identical(dx, other.dx);
   }
 
   protected float x, dx;
@@ -133,6 +136,66 @@ public class DOF1Event extends MotionEvent {
     return (DOF1Event) super.fire();
   }
 
+  protected static final EventPool<DOF1Event> eventPool = new EventPool<DOF1Event>() {
+    @Override
+    protected DOF1Event create() {
+      return new DOF1Event(0);
+    }
+  };
+
+  /**
+   * Returns a DOF1Event from the pool of this event type, to be initialized with one of
+   * the {@code set} methods.
+   *
+   * @see remixlab.bias.core.BogusEvent#release()
+   */
+  public static DOF1Event obtain() {
+    return eventPool.obtain();
+  }
+
+  @Override
+  public DOF1Event set(BogusEvent other) {
+    super.set(other);
+    if (other instanceof DOF1Event) {
+      this.x = ((DOF1Event) other).x;
+      this.dx = ((DOF1Event) other).dx;
+    }
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as an absolute DOF1 event. Same parameters as
+   * {@link #DOF1Event(float, int, int)}.
+   */
+  public DOF1Event set(float dx, int modifiers, int id) {
+    reset(modifiers, id);
+    this.x = 0;
+    this.dx = dx;
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as a relative DOF1 event. Same parameters as
+   * {@link #DOF1Event(DOF1Event, float, int, int)}. The {@code prevEvent} should be a
+   * different event instance.
+   */
+  public DOF1Event set(DOF1Event prevEvent, float x, int modifiers, int id) {
+    reset(modifiers, id);
+    this.x = x;
+    this.dx = 0;
+    setPreviousEvent(prevEvent);
+    return this;
+  }
+
+  @Override
+  public boolean coalesce(MotionEvent event) {
+    if (!super.coalesce(event))
+      return false;
+    this.x = ((DOF1Event) event).x;
+    this.dx += ((DOF1Event) event).dx;
+    return true;
+  }
+
   @Override
   protected void setPreviousEvent(MotionEvent prevEvent) {
     rel = true;
@@ -10,8 +10,8 @@
 
 package remixlab.bias.event;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
+import remixlab.bias.core.BogusEvent;
+import remixlab.bias.core.EventPool;
 import remixlab.util.Util;
 
 /**
@@ -21,8 +21,12 @@ import remixlab.util.Util;
 public class DOF2Event extends MotionEvent {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).appendSuper(super.hashCode()).append(x).append(dx)
-        .append(y).append(dy).toHashCode();
+    int h = 37 * 17 + super.hashCode();
+    h = 37 * h + Util.hash(x);
+    h = 37 * h + Util.hash(dx);
+    h = 37 * h + Util.hash(y);
+    h = 37 * h + Util.hash(dy);
+    return h;
   }
 
   @Override
@@ -35,8 +39,8 @@ public class DOF2Event extends MotionEvent {
       return false;
 
     DOF2Event other = (DOF2Event) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(x, other.x).append(dx, other.dx).append(y, other.y)
-        .append(dy, other.dy).isEquals();
+    return super.equals(obj) && Util.identical(x, other.x) && Util.identical(dx, other.dx) &&
+        Util.identical(y, other.y) && Util.identical(dy, other.dy);
   }
 
   protected float x, dx;
@@ -147,6 +151,75 @@ public class DOF2Event extends MotionEvent {
     return (DOF2Event) super.fire();
   }
 
+  protected static final EventPool<DOF2Event> eventPool = new EventPool<DOF2Event>() {
+    @Override
+    protected DOF2Event create() {
+      return new DOF2Event(0, 0);
+    }
+  };
+
+  /**
+   * Returns a DOF2Event from the pool of this event type, to be initialized with one of
+   * the {@code set} methods.
+   *
+   * @see remixlab.bias.core.BogusEvent#release()
+   */
+  public static DOF2Event obtain() {
+    return eventPool.obtain();
+  }
+
+  @Override
+  public DOF2Event set(BogusEvent other) {
+    super.set(other);
+    if (other instanceof DOF2Event) {
+      this.x = ((DOF2Event) other).x;
+      this.dx = ((DOF2Event) other).dx;
+      this.y = ((DOF2Event) other).y;
+      this.dy = ((DOF2Event) other).dy;
+    }
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as an absolute DOF2 event. Same parameters as
+   * {@link #DOF2Event(float, float, int, int)}.
+   */
+  public DOF2Event set(float dx, float dy, int modifiers, int id) {
+    reset(modifiers, id);
+    this.x = 0;
+    this.y = 0;
+    this.dx = dx;
+    this.dy = dy;
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as a relative DOF2 event. Same parameters as
+   * {@link #DOF2Event(DOF2Event, float, float, int, int)}. The {@code prevEvent} should be
+   * a different event instance.
+   */
+  public DOF2Event set(DOF2Event prevEvent, float x, float y, int modifiers, int id) {
+    reset(modifiers, id);
+    this.x = x;
+    this.y = y;
+    this.dx = 0;
+    this.dy = 0;
+    setPreviousEvent(prevEvent);
+    return this;
+  }
+
+  @Override
+  public boolean coalesce(MotionEvent event) {
+    if (!super.coalesce(event))
+      return false;
+    DOF2Event e = (DOF2Event) event;
+    this.x = e.x;
+    this.dx += e.dx;
+    this.y = e.y;
+    this.dy += e.dy;
+    return true;
+  }
+
   @Override
   protected void setPreviousEvent(MotionEvent prevEvent) {
     rel = true;
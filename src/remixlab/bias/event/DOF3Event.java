@@ -10,8 +10,8 @@
 
 package remixlab.bias.event;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
+import remixlab.bias.core.BogusEvent;
+import remixlab.bias.core.EventPool;
 import remixlab.util.Util;
 
 /**
@@ -21,8 +21,14 @@ import remixlab.util.Util;
 public class DOF3Event extends MotionEvent {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(x).append(dx).append(y).append(dy).append(z)
-        .append(dz).toHashCode();
+    int h = 37 * 17 + super.hashCode();
+    h = 37 * h + Util.hash(x);
+    h = 37 * h + Util.hash(dx);
+    h = 37 * h + Util.hash(y);
+    h = 37 * h + Util.hash(dy);
+    h = 37 * h + Util.hash(z);
+    h = 37 * h + Util.hash(dz);
+    return h;
   }
 
   @Override
@@ -35,8 +41,9 @@ public class DOF3Event extends MotionEvent {
       return false;
 
     DOF3Event other = (DOF3Event) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(x, other.x).append(dx, other.dx).append(y, other.y)
-        .append(dy, other.dy).append(z, other.z).append(dz, other.dz).isEquals();
+    return super.equals(obj) && Util.identical(x, other.x) && Util.identical(dx, other.dx) &&
+        Util.identical(y, other.y) && Util.identical(dy, other.dy) && Util.identical(z, other.z) &&
+        Util.identical(dz, other.dz);
   }
 
   protected float x, dx;
@@ -158,6 +165,84 @@ public class DOF3Event extends MotionEvent {
     return (DOF3Event) super.fire();
   }
 
+  protected static final EventPool<DOF3Event> eventPool = new EventPool<DOF3Event>() {
+    @Override
+    protected DOF3Event create() {
+      return new DOF3Event(0, 0, 0);
+    }
+  };
+
+  /**
+   * Returns a DOF3Event from the pool of this event type, to be initialized with one of
+   * the {@code set} methods.
+   *
+   * @see remixlab.bias.core.BogusEvent#release()
+   */
+  public static DOF3Event obtain() {
+    return eventPool.obtain();
+  }
+
+  @Override
+  public DOF3Event set(BogusEvent other) {
+    super.set(other);
+    if (other instanceof DOF3Event) {
+      DOF3Event e = (DOF3Event) other;
+      this.x = e.x;
+      this.dx = e.dx;
+      this.y = e.y;
+      this.dy = e.dy;
+      this.z = e.z;
+      this.dz = e.dz;
+    }
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as an absolute DOF3 event. Same parameters as
+   * {@link #DOF3Event(float, float, float, int, int)}.
+   */
+  public DOF3Event set(float dx, float dy, float dz, int modifiers, int id) {
+    reset(modifiers, id);
+    this.x = 0;
+    this.y = 0;
+    this.z = 0;
+    this.dx = dx;
+    this.dy = dy;
+    this.dz = dz;
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as a relative DOF3 event. Same parameters as
+   * {@link #DOF3Event(DOF3Event, float, float, float, int, int)}. The {@code prevEvent}
+   * should be a different event instance.
+   */
+  public DOF3Event set(DOF3Event prevEvent, float x, float y, float z, int modifiers, int id) {
+    reset(modifiers, id);
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.dx = 0;
+    this.dy = 0;
+    this.dz = 0;
+    setPreviousEvent(prevEvent);
+    return this;
+  }
+
+  @Override
+  public boolean coalesce(MotionEvent event) {
+    if (!super.coalesce(event))
+      return false;
+    DOF3Event e = (DOF3Event) event;
+    this.x = e.x;
+    this.dx += e.dx;
+    this.y = e.y;
+    this.dy += e.dy;
+    this.z = e.z;
+    this.dz += e.dz;
+    return true;
+  }
+
   @Override
   protected void setPreviousEvent(MotionEvent prevEvent) {
     rel = true;
@@ -10,8 +10,8 @@
 
 package remixlab.bias.event;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
+import remixlab.bias.core.BogusEvent;
+import remixlab.bias.core.EventPool;
 import remixlab.util.Util;
 
 /**
@@ -21,8 +21,20 @@ import remixlab.util.Util;
 public class DOF6Event extends MotionEvent {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(x).append(dx).append(y).append(dy).append(z)
-        .append(dz).append(rx).append(drx).append(ry).append(dry).append(rz).append(drz).toHashCode();
+    int h = 37 * 17 + super.hashCode();
+    h = 37 * h + Util.hash(x);
+    h = 37 * h + Util.hash(dx);
+    h = 37 * h + Util.hash(y);
+    h = 37 * h + Util.hash(dy);
+    h = 37 * h + Util.hash(z);
+    h = 37 * h + Util.hash(dz);
+    h = 37 * h + Util.hash(rx);
+    h = 37 * h + Util.hash(drx);
+    h = 37 * h + Util.hash(ry);
+    h = 37 * h + Util.hash(dry);
+    h = 37 * h + Util.hash(rz);
+    h = 37 * h + Util.hash(drz);
+    return h;
   }
 
   @Override
@@ -35,9 +47,11 @@ public class DOF6Event extends MotionEvent {
       return false;
 
     DOF6Event other = (DOF6Event) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(x, other.x).append(dx, other.dx).append(y, other.y)
-        .append(dy, other.dy).append(z, other.z).append(dz, other.dz).append(rx, other.rx).append(drx, other.drx)
-        .append(ry, other.ry).append(dry, other.dry).append(rz, other.rz).append(drz, other.drz).isEquals();
+    return super.equals(obj) && Util.identical(x, other.x) && Util.identical(dx, other.dx) &&
+        Util.identical(y, other.y) && Util.identical(dy, other.dy) && Util.identical(z, other.z) &&
+        Util.identical(dz, other.dz) && Util.identical(rx, other.rx) && Util.identical(drx, other.drx) &&
+        Util.identical(ry, other.ry) && Util.identical(dry, other.dry) && Util.identical(rz, other.rz) &&
+        Util.identical(drz, other.drz);
   }
 
   protected float x, dx;
@@ -194,6 +208,109 @@ public class DOF6Event extends MotionEvent {
     return (DOF6Event) super.fire();
   }
 
+  protected static final EventPool<DOF6Event> eventPool = new EventPool<DOF6Event>() {
+    @Override
+    protected DOF6Event create() {
+      return new DOF6Event(0, 0, 0, 0, 0, 0);
+    }
+  };
+
+  /**
+   * Returns a DOF6Event from the pool of this event type, to be initialized with one of
+   * the {@code set} methods.
+   *
+   * @see remixlab.bias.core.BogusEvent#release()
+   */
+  public static DOF6Event obtain() {
+    return eventPool.obtain();
+  }
+
+  @Override
+  public DOF6Event set(BogusEvent other) {
+    super.set(other);
+    if (other instanceof DOF6Event) {
+      DOF6Event e = (DOF6Event) other;
+      this.x = e.x;
+      this.dx = e.dx;
+      this.y = e.y;
+      this.dy = e.dy;
+      this.z = e.z;
+      this.dz = e.dz;
+      this.rx = e.rx;
+      this.drx = e.drx;
+      this.ry = e.ry;
+      this.dry = e.dry;
+      this.rz = e.rz;
+      this.drz = e.drz;
+    }
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as an absolute DOF6 event. Same parameters as
+   * {@link #DOF6Event(float, float, float, float, float, float, int, int)}.
+   */
+  public DOF6Event set(float dx, float dy, float dz, float drx, float dry, float drz, int modifiers, int id) {
+    reset(modifiers, id);
+    this.x = 0;
+    this.y = 0;
+    this.z = 0;
+    this.rx = 0;
+    this.ry = 0;
+    this.rz = 0;
+    this.dx = dx;
+    this.dy = dy;
+    this.dz = dz;
+    this.drx = drx;
+    this.dry = dry;
+    this.drz = drz;
+    return this;
+  }
+
+  /**
+   * Reinitializes this event as a relative DOF6 event. Same parameters as
+   * {@link #DOF6Event(DOF6Event, float, float, float, float, float, float, int, int)}. The
+   * {@code prevEvent} should be a different event instance.
+   */
+  public DOF6Event set(DOF6Event prevEvent, float x, float y, float z, float rx, float ry, float rz, int modifiers,
+                       int id) {
+    reset(modifiers, id);
+    this.x = x;
+    this.y = y;
+    this.z = z;
+    this.rx = rx;
+    this.ry = ry;
+    this.rz = rz;
+    this.dx = 0;
+    this.dy = 0;
+    this.dz = 0;
+    this.drx = 0;
+    this.dry = 0;
+    this.drz = 0;
+    setPreviousEvent(prevEvent);
+    return this;
+  }
+
+  @Override
+  public boolean coalesce(MotionEvent event) {
+    if (!super.coalesce(event))
+      return false;
+    DOF6Event e = (DOF6Event) event;
+    this.x = e.x;
+    this.dx += e.dx;
+    this.y = e.y;
+    this.dy += e.dy;
+    this.z = e.z;
+    this.dz += e.dz;
+    this.rx = e.rx;
+    this.drx += e.drx;
+    this.ry = e.ry;
+    this.dry += e.dry;
+    this.rz = e.rz;
+    this.drz += e.drz;
+    return true;
+  }
+
   @Override
   protected void setPreviousEvent(MotionEvent prevEvent) {
     rel = true;
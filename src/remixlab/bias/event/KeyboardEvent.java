@@ -11,6 +11,7 @@
 package remixlab.bias.event;
 
 import remixlab.bias.core.BogusEvent;
+import remixlab.bias.core.EventPool;
 
 /**
  * A keyboard event is a {@link remixlab.bias.core.BogusEvent} specialization that
@@ -27,7 +28,7 @@ import remixlab.bias.core.BogusEvent;
  * the platform where the framework is running.
  */
 public class KeyboardEvent extends BogusEvent {
-  protected final char key;
+  protected char key;
 
   /**
    * Constructs a keyboard event with the <b>modifiers</b> and <b>vk</b> defining its
@@ -75,12 +76,54 @@ public class KeyboardEvent extends BogusEvent {
     return (KeyboardEvent) super.fire();
   }
 
+  protected static final EventPool<KeyboardEvent> eventPool = new EventPool<KeyboardEvent>() {
+    @Override
+    protected KeyboardEvent create() {
+      return new KeyboardEvent('\0');
+    }
+  };
+
+  /**
+   * Returns a KeyboardEvent from the pool of this event type, to be initialized with one
+   * of the {@code set} methods.
+   *
+   * @see remixlab.bias.core.BogusEvent#release()
+   */
+  public static KeyboardEvent obtain() {
+    return eventPool.obtain();
+  }
+
+  @Override
+  public KeyboardEvent set(BogusEvent other) {
+    super.set(other);
+    if (other instanceof KeyboardEvent)
+      this.key = ((KeyboardEvent) other).key;
+    return this;
+  }
+
+  /**
+   * Reinitializes this event. Same parameters as {@link #KeyboardEvent(int, int)}.
+   */
+  public KeyboardEvent set(int modifiers, int vk) {
+    reset(modifiers, vk);
+    key = '\0';
+    return this;
+  }
+
+  /**
+   * Reinitializes this event. Same parameters as {@link #KeyboardEvent(char)}.
+   */
+  public KeyboardEvent set(char _key) {
+    reset(NO_MODIFIER_MASK, NO_ID);
+    key = _key;
+    return this;
+  }
+
   @Override
   public KeyboardShortcut shortcut() {
-    if (key == '\0')
-      return new KeyboardShortcut(modifiers(), id());
-    else
-      return new KeyboardShortcut(key());
+    if (!(cachedShortcut instanceof KeyboardShortcut))
+      cachedShortcut = key == '\0' ? new KeyboardShortcut(modifiers(), id()) : new KeyboardShortcut(key());
+    return (KeyboardShortcut) cachedShortcut;
   }
 
   public char key() {
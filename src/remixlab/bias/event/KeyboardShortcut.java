@@ -11,8 +11,6 @@
 package remixlab.bias.event;
 
 import remixlab.bias.core.Shortcut;
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
 
 /**
  * This class represents {@link remixlab.bias.event.KeyboardEvent} shortcuts.
@@ -22,11 +20,6 @@ import remixlab.util.HashCodeBuilder;
  * key representing 'a').
  */
 public final class KeyboardShortcut extends Shortcut {
-  @Override
-  public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(key).toHashCode();
-  }
-
   public boolean equals(Object obj) {
     if (obj == null)
       return false;
@@ -36,7 +29,7 @@ public final class KeyboardShortcut extends Shortcut {
       return false;
 
     KeyboardShortcut rhs = (KeyboardShortcut) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(key, rhs.key).isEquals();
+    return super.equals(obj) && key == rhs.key;
   }
 
   protected final char key;
@@ -49,6 +42,7 @@ public final class KeyboardShortcut extends Shortcut {
   public KeyboardShortcut(char k) {
     super();
     key = k;
+    precompute();
   }
 
   /**
@@ -60,6 +54,7 @@ public final class KeyboardShortcut extends Shortcut {
   public KeyboardShortcut(int m, int vk) {
     super(m, vk);
     key = '\0';
+    precompute();
   }
 
   /**
@@ -70,6 +65,12 @@ public final class KeyboardShortcut extends Shortcut {
   public KeyboardShortcut(int vk) {
     super(vk);
     key = '\0';
+    precompute();
+  }
+
+  private void precompute() {
+    hash = 37 * (37 * 17 + hash) + key;
+    pkey = pack(3, mask, id, key);
   }
 
   @Override
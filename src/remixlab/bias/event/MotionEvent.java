@@ -11,8 +11,7 @@
 package remixlab.bias.event;
 
 import remixlab.bias.core.BogusEvent;
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
+import remixlab.util.Util;
 
 /**
  * Base class of all DOF_n_Events: {@link remixlab.bias.core.BogusEvent}s defined from
@@ -27,8 +26,13 @@ import remixlab.util.HashCodeBuilder;
 public class MotionEvent extends BogusEvent {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(id).append(delay).append(distance)
-        .append(speed).append(rel).toHashCode();
+    int h = 37 * 17 + super.hashCode();
+    h = 37 * h + id;
+    h = 37 * h + (int) (delay ^ (delay >> 32));
+    h = 37 * h + Util.hash(distance);
+    h = 37 * h + Util.hash(speed);
+    h = 37 * h + (rel ? 0 : 1);
+    return h;
   }
 
   @Override
@@ -41,8 +45,8 @@ public class MotionEvent extends BogusEvent {
       return false;
 
     MotionEvent other = (MotionEvent) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(id, other.id).append(delay, other.delay)
-        .append(distance, other.distance).append(speed, other.speed).append(rel, other.rel).isEquals();
+    return super.equals(obj) && id == other.id && delay == other.delay && Util.identical(distance, other.distance) &&
+        Util.identical(speed, other.speed) && rel == other.rel;
   }
 
   // defaulting to zero:
@@ -88,6 +92,27 @@ public class MotionEvent extends BogusEvent {
     return new MotionEvent(this);
   }
 
+  @Override
+  public MotionEvent set(BogusEvent other) {
+    super.set(other);
+    if (other instanceof MotionEvent) {
+      this.delay = ((MotionEvent) other).delay;
+      this.distance = ((MotionEvent) other).distance;
+      this.speed = ((MotionEvent) other).speed;
+      this.rel = ((MotionEvent) other).rel;
+    }
+    return this;
+  }
+
+  @Override
+  protected void reset(int modifiers, int id) {
+    super.reset(modifiers, id);
+    delay = 0;
+    distance = 0;
+    speed = 0;
+    rel = false;
+  }
+
   @Override
   public MotionEvent flush() {
     return (MotionEvent) super.flush();
@@ -107,7 +132,9 @@ public class MotionEvent extends BogusEvent {
 
   @Override
   public MotionShortcut shortcut() {
-    return new MotionShortcut(modifiers(), id());
+    if (!(cachedShortcut instanceof MotionShortcut))
+      cachedShortcut = new MotionShortcut(modifiers(), id());
+    return (MotionShortcut) cachedShortcut;
   }
 
   /**
@@ -151,6 +178,34 @@ public class MotionEvent extends BogusEvent {
     return !isRelative();
   }
 
+  /**
+   * Accumulates the relative {@code event}, which should immediately follow this one, into
+   * this event, so that this event spans both of them. Returns {@code false}, leaving
+   * this event untouched, if the events can't be coalesced, i.e., if they're of different
+   * types, have different shortcuts, aren't both relative or any of them is
+   * {@link #fired()} or {@link #flushed()}.
+   * <p>
+   * Derived classes should accumulate their dofs too.
+   *
+   * @see remixlab.bias.core.InputHandler#enableMotionCoalescing()
+   */
+  public boolean coalesce(MotionEvent event) {
+    if (event == null || event == this || event.getClass() != getClass())
+      return false;
+    if (!isRelative() || !event.isRelative() || fired() || flushed() || event.fired() || event.flushed())
+      return false;
+    if (modifiers() != event.modifiers() || id() != event.id())
+      return false;
+    timestamp = event.timestamp();
+    delay += event.delay();
+    distance += event.distance();
+    if (delay == 0)
+      speed = distance;
+    else
+      speed = distance / (float) delay;
+    return true;
+  }
+
   /**
    * Sets the event's previous event to build a relative event.
    */
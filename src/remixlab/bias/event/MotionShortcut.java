@@ -108,6 +108,7 @@ public final class MotionShortcut extends Shortcut {
    */
   public MotionShortcut() {
     super();
+    pkey = pack(1, mask, id, 0);
   }
 
   /**
@@ -117,6 +118,7 @@ public final class MotionShortcut extends Shortcut {
    */
   public MotionShortcut(int id) {
     super(id);
+    pkey = pack(1, mask, id, 0);
   }
 
   /**
@@ -127,6 +129,7 @@ public final class MotionShortcut extends Shortcut {
    */
   public MotionShortcut(int m, int id) {
     super(m, id);
+    pkey = pack(1, mask, id, 0);
   }
 
   /**
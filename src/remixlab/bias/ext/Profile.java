@@ -15,6 +15,8 @@ import remixlab.bias.core.Grabber;
 import remixlab.bias.core.Shortcut;
 import remixlab.bias.event.MotionEvent;
 import remixlab.bias.event.MotionShortcut;
+import remixlab.util.LongHashMap;
+import remixlab.util.Reflection;
 
 import java.lang.reflect.Method;
 import java.util.*;
@@ -41,17 +43,52 @@ import java.util.Map.Entry;
  * {@link #Profile(Grabber)} constructor.
  */
 public class Profile {
+  /**
+   * Action binding resolved at {@code setBinding} time: the method arity is known and its
+   * arguments array is allocated once, so that dispatching an event (see
+   * {@link #invoke(BogusEvent)}) takes a single reflective call.
+   */
   class ObjectMethodTuple {
     Object object;
     Method method;
+    Object[] args;
+    // index of the event within args, or -1 if the method doesn't take it
+    int eventSlot;
 
     ObjectMethodTuple(Object o, Method m) {
       object = o;
       method = m;
+      // grabber actions: action() or action(event)
+      // external actions: action(grabber) or action(grabber, event)
+      boolean external = object != grabber;
+      args = new Object[method.getParameterTypes().length];
+      if (external && args.length > 0)
+        args[0] = grabber;
+      eventSlot = args.length == (external ? 2 : 1) ? args.length - 1 : -1;
+      Reflection.setAccessible(method);
+    }
+
+    boolean invoke(BogusEvent event) {
+      if (eventSlot >= 0)
+        args[eventSlot] = event;
+      try {
+        method.invoke(object, args);
+        return true;
+      } catch (Exception e) {
+        System.out.println("Something went wrong when invoking your " + method.getName() + " method");
+        e.printStackTrace();
+        return false;
+      } finally {
+        // don't keep a reference to the event
+        if (eventSlot >= 0)
+          args[eventSlot] = null;
+      }
     }
   }
 
   protected HashMap<Shortcut, ObjectMethodTuple> map;
+  // mirrors the map entries of packable shortcuts, see Shortcut.packedKey()
+  protected LongHashMap<ObjectMethodTuple> index;
   protected Grabber grabber;
 
   // static stuff
@@ -62,6 +99,7 @@ public class Profile {
    */
   public Profile(Grabber g) {
     map = new HashMap<Shortcut, ObjectMethodTuple>();
+    index = new LongHashMap<ObjectMethodTuple>();
     grabber = g;
   }
 
@@ -75,11 +113,12 @@ public class Profile {
       return;
     }
     map = new HashMap<Shortcut, ObjectMethodTuple>();
+    index = new LongHashMap<ObjectMethodTuple>();
     for (Map.Entry<Shortcut, ObjectMethodTuple> entry : p.map().entrySet()) {
       if (entry.getValue().object == p.grabber)
-        map.put(entry.getKey(), new ObjectMethodTuple(grabber, entry.getValue().method));
+        bind(entry.getKey(), new ObjectMethodTuple(grabber, entry.getValue().method));
       else
-        map.put(entry.getKey(), new ObjectMethodTuple(entry.getValue().object, entry.getValue().method));
+        bind(entry.getKey(), new ObjectMethodTuple(entry.getValue().object, entry.getValue().method));
     }
   }
 
@@ -106,6 +145,28 @@ public class Profile {
     return map;
   }
 
+  /**
+   * Internal use. Returns the object-method tuple bound to the shortcut. Shortcuts having
+   * a {@link remixlab.bias.core.Shortcut#packedKey()} are looked up in a primitive long
+   * keyed map, so that neither their {@code hashCode()} nor their {@code equals()} are
+   * called.
+   */
+  protected ObjectMethodTuple tuple(Shortcut shortcut) {
+    if (shortcut == null)
+      return map.get(shortcut);
+    long key = shortcut.packedKey();
+    return key < 0 ? map.get(shortcut) : index.get(key);
+  }
+
+  /**
+   * Internal use. Binds the object-method tuple to the shortcut.
+   */
+  protected void bind(Shortcut shortcut, ObjectMethodTuple tuple) {
+    map.put(shortcut, tuple);
+    if (shortcut != null && shortcut.packedKey() >= 0)
+      index.put(shortcut.packedKey(), tuple);
+  }
+
   /**
    * Returns the {@link java.lang.reflect.Method} binding for the given
    * {@link remixlab.bias.core.Shortcut} key.
@@ -113,7 +174,8 @@ public class Profile {
    * @see #action(Shortcut)
    */
   public Method method(Shortcut shortcut) {
-    return map.get(shortcut) == null ? null : map.get(shortcut).method;
+    ObjectMethodTuple tuple = tuple(shortcut);
+    return tuple == null ? null : tuple.method;
   }
 
   /**
@@ -134,42 +196,24 @@ public class Profile {
    * object.
    */
   public Object object(Shortcut shortcut) {
-    return map.get(shortcut) == null ? null : map.get(shortcut).object;
+    ObjectMethodTuple tuple = tuple(shortcut);
+    return tuple == null ? null : tuple.object;
   }
 
   /**
    * Main class method to be called from
    * {@link remixlab.bias.core.Grabber#performInteraction(BogusEvent)}. Calls an action
    * handler if the {@link remixlab.bias.core.BogusEvent#shortcut()} is bound.
+   * <p>
+   * The action prototype is resolved when the binding is set, so that dispatching takes a
+   * single map lookup followed by the action invocation.
    *
    * @see #setBinding(Shortcut, String)
    * @see #setBinding(Object, Shortcut, String)
    */
   public boolean handle(BogusEvent event) {
-    Method iHandlerMethod = method(event.shortcut());
-    if (iHandlerMethod != null) {
-      try {
-        if (object(event.shortcut()) == grabber)
-          iHandlerMethod.invoke(object(event.shortcut()), new Object[]{event});
-        else
-          iHandlerMethod.invoke(object(event.shortcut()), new Object[]{grabber, event});
-        return true;
-      } catch (Exception e) {
-        try {
-          if (object(event.shortcut()) == grabber)
-            iHandlerMethod.invoke(object(event.shortcut()), new Object[]{});
-          else
-            iHandlerMethod.invoke(object(event.shortcut()), new Object[]{grabber});
-          return true;
-        } catch (Exception empty) {
-          System.out.println("Something went wrong when invoking your " + iHandlerMethod.getName() + " method");
-          empty.printStackTrace();
-        }
-        System.out.println("Something went wrong when invoking your " + iHandlerMethod.getName() + " method");
-        e.printStackTrace();
-      }
-    }
-    return false;
+    ObjectMethodTuple tuple = tuple(event.shortcut());
+    return tuple != null && tuple.invoke(event);
   }
 
   /**
@@ -263,7 +307,7 @@ public class Profile {
         }
       }
       if (method != null) {
-        map.put(shortcut, new ObjectMethodTuple(context, method));
+        bind(shortcut, new ObjectMethodTuple(context, method));
         return true;
       }
     }
@@ -296,7 +340,7 @@ public class Profile {
       }
     }
     if (method != null) {
-      map.put(shortcut, new ObjectMethodTuple(grabber, method));
+      bind(shortcut, new ObjectMethodTuple(grabber, method));
       return true;
     }
     return false;
@@ -366,7 +410,7 @@ public class Profile {
       }
     }
     if (method != null) {
-      map.put(shortcut, new ObjectMethodTuple(object, method));
+      bind(shortcut, new ObjectMethodTuple(object, method));
       return true;
     }
     return false;
@@ -419,6 +463,8 @@ public class Profile {
    */
   public void removeBinding(Shortcut shortcut) {
     map.remove(shortcut);
+    if (shortcut != null && shortcut.packedKey() >= 0)
+      index.remove(shortcut.packedKey());
   }
 
   /**
@@ -426,6 +472,7 @@ public class Profile {
    */
   public void removeBindings() {
     map.clear();
+    index.clear();
   }
 
   /**
@@ -435,8 +482,11 @@ public class Profile {
     Iterator<Entry<Shortcut, ObjectMethodTuple>> it = map.entrySet().iterator();
     while (it.hasNext()) {
       Map.Entry<Shortcut, ObjectMethodTuple> pair = it.next();
-      if (cls.equals(pair.getKey().getClass()))
+      if (cls.equals(pair.getKey().getClass())) {
+        if (pair.getKey().packedKey() >= 0)
+          index.remove(pair.getKey().packedKey());
         it.remove();
+      }
     }
   }
 
@@ -495,6 +545,8 @@ public class Profile {
    * @return true if this object contains a binding for the specified shortcut.
    */
   public boolean hasBinding(Shortcut shortcut) {
+    if (shortcut != null && shortcut.packedKey() >= 0)
+      return index.containsKey(shortcut.packedKey());
     return map.containsKey(shortcut);
   }
 
@@ -102,6 +102,9 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
   // InputHandler
   protected InputHandler iHandler;
 
+  // spinning and flying frames
+  protected MotionIntegrator mIntegrator;
+
   // D I S P L A Y F L A G S
   protected int visualHintMask;
 
@@ -139,6 +142,35 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
 
   protected List<GenericFrame> seeds;
 
+  // frustum culling
+  protected boolean culling;
+  protected Eye.Visibility traversalVisibility;
+  protected int visitedFrames, culledFrames, cullingTests;
+  protected FrameTraversal traversal = new FrameTraversal() {
+    @Override
+    protected boolean enter(GenericFrame frame) {
+      Eye.Visibility parentVisibility = traversalVisibility;
+      if (!enterFrame(frame))
+        return false;
+      frame.parentVisibility = parentVisibility;
+      return true;
+    }
+
+    @Override
+    protected void exit(GenericFrame frame) {
+      traversalVisibility = frame.parentVisibility;
+      exitFrame(frame);
+    }
+  };
+  // see GenericFrame.updateSubtreeBounds()
+  final FrameTraversal boundsTraversal = new GenericFrame.SubtreeBoundsTraversal();
+  protected FrameBVH bvh;
+  protected TransformStore store;
+
+  // world matrix pass
+  protected boolean worldPass, loadWorldMatrices;
+  protected Mat passView, passWorld = new Mat(), passMatrix = new Mat();
+
   // public final static int PUP = 1 << 6;
   // public final static int ARP = 1 << 7;
 
@@ -174,6 +206,7 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
     setTimingHandler(new TimingHandler(this));
     deltaCount = frameCount;
     iHandler = new InputHandler();
+    mIntegrator = new MotionIntegrator(this);
     setMatrixHelper(new MatrixStackHelper(this));
     setRightHanded();
     setVisualHints(AXES | GRID);
@@ -212,6 +245,10 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
       return false;
     if (isLeadingFrame(gFrame))
       return false;
+    if (bvh != null)
+      bvh.invalidate();
+    if (store != null)
+      store.invalidate();
     return leadingFrames().add(gFrame);
   }
 
@@ -228,6 +265,10 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
         break;
       }
     }
+    if (result && bvh != null)
+      bvh.invalidate();
+    if (result && store != null)
+      store.invalidate();
     return result;
   }
 
@@ -238,6 +279,20 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
    * <p>
    * Note that only reachable frames are visited by this algorithm.
    * <p>
+   * When {@link #isFrustumCullingEnabled()}, the branches which bounds (see
+   * {@link remixlab.dandelion.core.GenericFrame#setBoundingBall(Vec, float)}) lie outside
+   * the eye boundary are skipped altogether, and the descendants of the branches lying
+   * entirely inside it are not tested. See also {@link #visitedFrames()},
+   * {@link #culledFrames()} and {@link #cullingTests()}.
+   * <p>
+   * When {@link #isWorldMatrixPassEnabled()}, the world matrices of all the frames are
+   * first brought up to date in the {@link #transformStore()}, and each visited frame
+   * then simply loads its own (see {@link #loadWorldMatrix(GenericFrame)}).
+   * <p>
+   * The tree is traversed iteratively, calling {@link #enterFrame(GenericFrame)} on each
+   * frame before its children and {@link #exitFrame(GenericFrame)} after them, which are
+   * the per frame hooks derived scenes should override.
+   * <p>
    * <b>Attention:</b> this method should be called after {@link #bindMatrices()} (i.e.,
    * eye update) and before any other transformation of the modelview takes place.
    *
@@ -245,20 +300,301 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
    * @see #pruneBranch(GenericFrame)
    */
   public void traverseTree() {
+    visitedFrames = culledFrames = cullingTests = 0;
+    traversalVisibility = null;
+    loadWorldMatrices = isWorldMatrixPassEnabled();
+    if (loadWorldMatrices)
+      beginWorldMatrixPass();
     for (GenericFrame frame : leadingFrames())
       visitFrame(frame);
+    if (loadWorldMatrices)
+      endWorldMatrixPass();
+    loadWorldMatrices = false;
   }
 
   /**
-   * Used by the traverse frame tree algorithm.
+   * Used by the traverse frame tree algorithm. Traverses the {@code frame} branch
+   * iteratively (see {@link remixlab.dandelion.core.FrameTraversal}), calling
+   * {@link #enterFrame(GenericFrame)} and {@link #exitFrame(GenericFrame)} on each of its
+   * frames.
+   * <p>
+   * <b>Attention:</b> this method is now only called for the {@link #leadingFrames()},
+   * and no longer for their descendants. Override {@link #enterFrame(GenericFrame)} and
+   * {@link #exitFrame(GenericFrame)} instead, which are called for every traversed frame.
+   *
+   * @deprecated Override {@link #enterFrame(GenericFrame)} and
+   * {@link #exitFrame(GenericFrame)} instead.
    */
+  @Deprecated
   protected void visitFrame(GenericFrame frame) {
-    pushModelView();
-    applyTransformation(frame);
-    frame.visitCallback();
-    for (GenericFrame child : frame.children())
-      visitFrame(child);
-    popModelView();
+    traversal.traverse(frame);
+  }
+
+  /**
+   * Used by the traverse frame tree algorithm before visiting the {@code frame} children.
+   * Culls the frame branch, applies the frame transformation and calls
+   * {@link remixlab.dandelion.core.GenericFrame#visitCallback()}. Returns {@code false}
+   * if the branch is culled, in which case it's skipped. Otherwise, sets the
+   * {@code traversalVisibility} to that of the branch.
+   */
+  protected boolean enterFrame(GenericFrame frame) {
+    Eye.Visibility visibility = cullFrame(frame);
+    if (visibility == Eye.Visibility.INVISIBLE)
+      return false;
+    if (loadWorldMatrices)
+      loadWorldMatrix(frame);
+    else {
+      pushModelView();
+      applyTransformation(frame);
+    }
+    if (frame.visibility() != Eye.Visibility.INVISIBLE) {
+      visitedFrames++;
+      frame.visitCallback();
+    }
+    traversalVisibility = visibility;
+    return true;
+  }
+
+  /**
+   * Used by the traverse frame tree algorithm after visiting the {@code frame} children.
+   * Calls {@link remixlab.dandelion.core.GenericFrame#postVisitCallback()} and restores
+   * the modelview.
+   */
+  protected void exitFrame(GenericFrame frame) {
+    if (frame.visibility() != Eye.Visibility.INVISIBLE)
+      frame.postVisitCallback();
+    if (!loadWorldMatrices)
+      popModelView();
+  }
+
+  /**
+   * Called by {@link #traverseTree()} when {@link #isWorldMatrixPassEnabled()}, before
+   * visiting the frames. Updates the {@link #transformStore()} world matrices and saves
+   * the current modelview (i.e., the eye view).
+   */
+  protected void beginWorldMatrixPass() {
+    transformStore().update();
+    passView = getModelView(passView);
+  }
+
+  /**
+   * Called by {@link #traverseTree()} when {@link #isWorldMatrixPassEnabled()}, after
+   * visiting the frames. Restores the modelview saved by {@link #beginWorldMatrixPass()}.
+   */
+  protected void endWorldMatrixPass() {
+    setModelView(passView);
+  }
+
+  /**
+   * Used by the traverse frame tree algorithm when {@link #isWorldMatrixPassEnabled()}.
+   * Sets the modelview to the one saved by {@link #beginWorldMatrixPass()} times the
+   * {@code frame} world matrix, as found in the {@link #transformStore()}.
+   */
+  protected void loadWorldMatrix(GenericFrame frame) {
+    Mat world = transformStore().worldMatrix(frame, passWorld);
+    Mat.multiply(passView, world == null ? frame.worldMatrix() : world, passMatrix);
+    setModelView(passMatrix);
+  }
+
+  /**
+   * Returns {@code true} if the {@link #traverseTree()} algorithm computes the world
+   * matrices of all the frames at once (see {@link #transformStore()}) and loads them,
+   * instead of applying the local transformation of each traversed frame. Disabled by
+   * default.
+   * <p>
+   * The pass pays off with large frame hierarchies, since the world matrices are updated
+   * in a single sweep (which may be split among several threads, see
+   * {@link remixlab.dandelion.core.TransformStore#sweep(int, int)}), and only those of
+   * the frames modified since the last traversal are recomputed.
+   *
+   * @see #enableWorldMatrixPass()
+   * @see #disableWorldMatrixPass()
+   * @see #toggleWorldMatrixPass()
+   */
+  public boolean isWorldMatrixPassEnabled() {
+    return worldPass;
+  }
+
+  /**
+   * Toggles the world matrix pass of the {@link #traverseTree()} algorithm.
+   *
+   * @see #isWorldMatrixPassEnabled()
+   */
+  public void toggleWorldMatrixPass() {
+    enableWorldMatrixPass(!isWorldMatrixPassEnabled());
+  }
+
+  /**
+   * Disables the world matrix pass of the {@link #traverseTree()} algorithm.
+   *
+   * @see #isWorldMatrixPassEnabled()
+   */
+  public void disableWorldMatrixPass() {
+    enableWorldMatrixPass(false);
+  }
+
+  /**
+   * Enables the world matrix pass of the {@link #traverseTree()} algorithm.
+   *
+   * @see #isWorldMatrixPassEnabled()
+   */
+  public void enableWorldMatrixPass() {
+    enableWorldMatrixPass(true);
+  }
+
+  /**
+   * Enables or disables the world matrix pass of the {@link #traverseTree()} algorithm
+   * according to {@code flag}.
+   *
+   * @see #isWorldMatrixPassEnabled()
+   */
+  public void enableWorldMatrixPass(boolean flag) {
+    worldPass = flag;
+  }
+
+  /**
+   * Used by the traverse frame tree algorithm to cull the {@code frame} branch. Returns
+   * the visibility of the whole branch, and sets the visibility of the frame itself (see
+   * {@link remixlab.dandelion.core.GenericFrame#visibility()}).
+   * <p>
+   * The branch is regarded as {@link remixlab.dandelion.core.Eye.Visibility#VISIBLE}
+   * when culling is disabled or when its parent branch is visible, and as
+   * {@link remixlab.dandelion.core.Eye.Visibility#SEMIVISIBLE} when some of its frames
+   * has no bounds.
+   */
+  protected Eye.Visibility cullFrame(GenericFrame frame) {
+    if (traversalVisibility == Eye.Visibility.VISIBLE || !isFrustumCullingEnabled()
+        || !areBoundaryEquationsEnabled()) {
+      frame.visibility = Eye.Visibility.VISIBLE;
+      return Eye.Visibility.VISIBLE;
+    }
+    Eye.Visibility branch = Eye.Visibility.SEMIVISIBLE;
+    if (frame.updateSubtreeBounds()) {
+      cullingTests++;
+      branch = eye().ballVisibility(frame.subtreeCenter, frame.subtreeRadius);
+      if (branch == Eye.Visibility.INVISIBLE) {
+        culledFrames += frame.subtreeSize;
+        frame.visibility = Eye.Visibility.INVISIBLE;
+        return branch;
+      }
+    }
+    if (branch == Eye.Visibility.VISIBLE || !frame.hasBounds())
+      frame.visibility = Eye.Visibility.VISIBLE;
+    // the branch ball of a leaf is its own ball, but a box may be tighter
+    else if (frame.children().isEmpty() && frame.bndMin == null)
+      frame.visibility = branch;
+    else {
+      cullingTests++;
+      frame.visibility = frame.boundsVisibility(eye());
+      if (frame.visibility == Eye.Visibility.INVISIBLE)
+        culledFrames++;
+    }
+    return branch;
+  }
+
+  /**
+   * Returns the bounding volume hierarchy of the scene {@link #frames(boolean)} having
+   * bounds, which is used to answer ray, frustum and overlap queries. It is created at the
+   * first call and is kept up to date afterwards.
+   *
+   * @see remixlab.dandelion.core.GenericFrame#setBoundingBall(Vec, float)
+   * @see remixlab.dandelion.core.GenericFrame#setBoundingBox(Vec, Vec)
+   */
+  public FrameBVH frameBVH() {
+    if (bvh == null)
+      bvh = new FrameBVH(this);
+    return bvh;
+  }
+
+  /**
+   * Returns the structure-of-arrays mirror of the scene {@link #frames(boolean)}
+   * transformations, which keeps their world matrices in a single contiguous array. It is
+   * created at the first call and is kept up to date afterwards.
+   *
+   * @see remixlab.dandelion.core.TransformStore#update()
+   */
+  public TransformStore transformStore() {
+    if (store == null)
+      store = new TransformStore(this);
+    return store;
+  }
+
+  /**
+   * Returns {@code true} if the {@link #traverseTree()} algorithm culls the frames lying
+   * outside the eye boundary. Disabled by default.
+   *
+   * @see #enableFrustumCulling()
+   * @see #disableFrustumCulling()
+   * @see #toggleFrustumCulling()
+   * @see remixlab.dandelion.core.GenericFrame#setBoundingBall(Vec, float)
+   * @see remixlab.dandelion.core.GenericFrame#setBoundingBox(Vec, Vec)
+   */
+  public boolean isFrustumCullingEnabled() {
+    return culling;
+  }
+
+  /**
+   * Toggles the frustum culling of the {@link #traverseTree()} algorithm.
+   *
+   * @see #isFrustumCullingEnabled()
+   */
+  public void toggleFrustumCulling() {
+    enableFrustumCulling(!isFrustumCullingEnabled());
+  }
+
+  /**
+   * Disables the frustum culling of the {@link #traverseTree()} algorithm.
+   *
+   * @see #isFrustumCullingEnabled()
+   */
+  public void disableFrustumCulling() {
+    enableFrustumCulling(false);
+  }
+
+  /**
+   * Enables the frustum culling of the {@link #traverseTree()} algorithm.
+   *
+   * @see #isFrustumCullingEnabled()
+   */
+  public void enableFrustumCulling() {
+    enableFrustumCulling(true);
+  }
+
+  /**
+   * Enables or disables the frustum culling of the {@link #traverseTree()} algorithm
+   * according to {@code flag}. Enabling it also enables the boundary equations (see
+   * {@link #enableBoundaryEquations()}) which are needed to perform the visibility
+   * tests.
+   *
+   * @see #isFrustumCullingEnabled()
+   */
+  public void enableFrustumCulling(boolean flag) {
+    culling = flag;
+    if (culling)
+      enableBoundaryEquations();
+  }
+
+  /**
+   * Returns the number of frames which {@link remixlab.dandelion.core.GenericFrame#visit()}
+   * was called by the last {@link #traverseTree()}.
+   */
+  public int visitedFrames() {
+    return visitedFrames;
+  }
+
+  /**
+   * Returns the number of frames culled (i.e., not visited) by the last
+   * {@link #traverseTree()}.
+   */
+  public int culledFrames() {
+    return culledFrames;
+  }
+
+  /**
+   * Returns the number of visibility tests performed by the last {@link #traverseTree()}.
+   */
+  public int cullingTests() {
+    return cullingTests;
   }
 
   /**
@@ -389,10 +725,18 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
   protected void collectFrames(List<GenericFrame> list, GenericFrame frame, boolean eyeframes) {
     if (frame == null)
       return;
-    if (!frame.isEyeFrame() || eyeframes)
-      list.add(frame);
-    for (GenericFrame child : frame.children())
-      collectFrames(list, child, eyeframes);
+    // explicit stack of the frames to be collected, children being pushed in reverse
+    // order so that the list is sorted in depth-first (pre-order)
+    ArrayList<GenericFrame> stack = new ArrayList<GenericFrame>();
+    stack.add(frame);
+    while (!stack.isEmpty()) {
+      GenericFrame gFrame = stack.remove(stack.size() - 1);
+      if (!gFrame.isEyeFrame() || eyeframes)
+        list.add(gFrame);
+      List<GenericFrame> children = gFrame.children();
+      for (int i = children.size() - 1; i >= 0; i--)
+        stack.add(children.get(i));
+    }
   }
 
   // Actions
@@ -803,6 +1147,17 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
     return timingHandler().frameCount();
   }
 
+  /**
+   * Returns the scene {@link remixlab.dandelion.core.MotionIntegrator} which advances all
+   * the spinning and flying frames in a single pass per frame.
+   *
+   * @see remixlab.dandelion.core.GenericFrame#isSpinning()
+   * @see remixlab.dandelion.core.GenericFrame#isFlying()
+   */
+  public MotionIntegrator motionIntegrator() {
+    return mIntegrator;
+  }
+
   /**
    * Convenience wrapper function that simply calls
    * {@code timingHandler().registerTask(task)}.
@@ -1385,6 +1740,7 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
    * <ol>
    * <li>Calls {@link remixlab.fpstiming.TimingHandler#handle()} and increments the the
    * {@link #frameCount()}</li>
+   * <li>Advances the spinning and flying frames (see {@link #motionIntegrator()})</li>
    * <li>Increments the {@link #frameCount()}</li>
    * <li>Calls {@link remixlab.bias.core.InputHandler#handle()}</li>
    * </ol>
@@ -1398,7 +1754,9 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
       frameCount = timingHandler().frameCount();
     if (frameCount < timingHandler().frameCount() + deltaCount)
       frameCount = timingHandler().frameCount() + deltaCount;
-    // 2. Agents
+    // 2. spinning and flying frames
+    motionIntegrator().handle();
+    // 3. Agents
     inputHandler().handle();
   }
 
@@ -2591,16 +2949,12 @@ public abstract class AbstractScene extends AnimatorObject implements Grabber {
 
   /**
    * Same as {@link #applyTransformation(Frame)} but applies the global transformation
-   * defined by the frame.
+   * defined by the frame, i.e., its
+   * {@link remixlab.dandelion.geom.Frame#worldMatrix()}, which is cached (so that frames
+   * of any depth may be used).
    */
   public void applyWorldTransformation(Frame frame) {
-    Frame refFrame = frame.referenceFrame();
-    if (refFrame != null) {
-      applyWorldTransformation(refFrame);
-      applyTransformation(frame);
-    } else {
-      applyTransformation(frame);
-    }
+    applyModelView(frame.worldMatrix());
   }
 
   /**
@@ -520,6 +520,8 @@ public class Camera extends Eye implements Copyable {
 
   @Override
   public float sceneToPixelRatio(Vec position) {
+    // computed live (rather than from the cached projectionView()), so that it's up to
+    // date right after the frame or the fieldOfView() are modified
     switch (type()) {
       case PERSPECTIVE:
         return 2.0f * Math.abs((frame().coordinatesOf(position)).vec[2] * frame().magnitude()) * (float) Math
@@ -949,6 +951,7 @@ public class Camera extends Eye implements Copyable {
     viewMat.mat[13] = -t.vec[1];
     viewMat.mat[14] = -t.vec[2];
     viewMat.mat[15] = 1.0f;
+    modifiedMatrices();
   }
 
   /**
@@ -1013,6 +1016,7 @@ public class Camera extends Eye implements Copyable {
         // same as glOrtho( -w, w, -h, h, zNear(), zFar() );
         break;
     }
+    modifiedMatrices();
   }
 
   @Override
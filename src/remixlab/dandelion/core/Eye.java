@@ -175,6 +175,13 @@ public abstract class Eye implements Copyable {
   protected Mat viewMat;
   protected Mat projectionMat;
 
+  // P r o j e c t i o n x V i e w c a c h e
+  protected Mat projectionViewMat, projectionViewInverseMat;
+  protected boolean projectionViewMatHasInverse;
+  protected long matricesStamp;
+  protected long projectionViewStamp = -1, projectionViewUpdate = -1;
+  protected long projectionViewInverseStamp = -1, projectionViewInverseUpdate = -1;
+
   // P o i n t s o f V i e w s a n d K e y F r a m e s
   protected HashMap<Integer, KeyFrameInterpolator> kfi;
   // protected Iterator<Integer> itrtr;
@@ -239,6 +246,8 @@ public abstract class Eye implements Copyable {
     viewMat = new Mat();
     projectionMat = new Mat();
     projectionMat.set(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    projectionViewMat = new Mat();
+    projectionViewInverseMat = new Mat();
   }
 
   protected Eye(Eye oVP) {
@@ -294,6 +303,8 @@ public abstract class Eye implements Copyable {
     this.setScreenWidthAndHeight(oVP.screenWidth(), oVP.screenHeight());
     this.viewMat = oVP.viewMat.get();
     this.projectionMat = oVP.projectionMat.get();
+    this.projectionViewMat = new Mat();
+    this.projectionViewInverseMat = new Mat();
   }
 
   @Override
@@ -918,6 +929,7 @@ public abstract class Eye implements Copyable {
    */
   public void setProjection(Mat proj) {
     projectionMat.set(proj);
+    modifiedMatrices();
   }
 
   /**
@@ -942,6 +954,7 @@ public abstract class Eye implements Copyable {
       projectionMat.setTransposed(source);
     else
       projectionMat.set(source);
+    modifiedMatrices();
   }
 
   /**
@@ -1218,15 +1231,10 @@ public abstract class Eye implements Copyable {
    * @see #unprojectedCoordinatesOf(Vec, Frame)
    */
   public final Vec projectedCoordinatesOf(Mat projview, Vec src, Frame frame) {
-    float xyz[] = new float[3];
-
-    if (frame != null) {
-      Vec tmp = frame.inverseCoordinatesOf(src);
-      project(projview, tmp.vec[0], tmp.vec[1], tmp.vec[2], xyz);
-    } else
-      project(projview, src.vec[0], src.vec[1], src.vec[2], xyz);
-
-    return new Vec(xyz[0], xyz[1], xyz[2]);
+    Vec world = frame != null ? frame.inverseCoordinatesOf(src) : src;
+    Vec result = new Vec();
+    project(projview, world.vec[0], world.vec[1], world.vec[2], result.vec);
+    return result;
   }
 
   /**
@@ -1288,28 +1296,68 @@ public abstract class Eye implements Copyable {
    * computations for instance), make sure the Eye matrices are updated before calling
    * this method (use {@link #computeView()}, {@link #computeProjection()}).
    * <p>
-   * This method is not computationally optimized. If you call it several times with no
-   * change in the matrices, you should buffer the entire inverse projection matrix (view,
-   * projection and then viewport) to speed-up the queries. See the gluUnProject man page
-   * for details.
+   * When {@code projviewInv} is null, the cached {@link #projectionViewInverse()} is
+   * used.
    *
    * @see #projectedCoordinatesOf(Vec, Frame)
    * @see #setScreenWidthAndHeight(int, int)
    */
   public final Vec unprojectedCoordinatesOf(Mat projviewInv, Vec src, Frame frame) {
-    float xyz[] = new float[3];
-    // unproject(src.vec[0], src.vec[1], src.vec[2], this.getViewMatrix(true),
-    // this.getProjectionMatrix(true),
-    // getViewport(), xyz);
-    unproject(projviewInv, src.vec[0], src.vec[1], src.vec[2], xyz);
+    Vec result = new Vec();
+    unproject(projviewInv, src.vec[0], src.vec[1], src.vec[2], result.vec);
     if (frame != null)
-      return frame.coordinatesOf(new Vec(xyz[0], xyz[1], xyz[2]));
+      return frame.coordinatesOf(result);
     else
-      return new Vec(xyz[0], xyz[1], xyz[2]);
+      return result;
   }
 
   protected void updateViewPort() {
-    viewport = getViewport();
+    viewport = getViewport(viewport);
+  }
+
+  /**
+   * Records that the view and/or projection matrices have been modified, so that the
+   * cached {@link #projectionView()} and {@link #projectionViewInverse()} get updated.
+   * Call it at the end of {@link #computeView()} and {@link #computeProjection()}.
+   */
+  protected void modifiedMatrices() {
+    matricesStamp++;
+  }
+
+  /**
+   * Returns the cached projection times view matrix, i.e., the product of the matrices
+   * last computed with {@link #computeProjection()} and {@link #computeView()}. Don't
+   * modify it.
+   * <p>
+   * The cache is updated when the matrices are recomputed (see
+   * {@link #modifiedMatrices()}) and whenever the Eye {@link #lastUpdate()} changes.
+   *
+   * @see #projectionViewInverse()
+   */
+  public Mat projectionView() {
+    long update = lastUpdate();
+    if (projectionViewStamp != matricesStamp || projectionViewUpdate != update) {
+      Mat.multiply(projectionMat, viewMat, projectionViewMat);
+      projectionViewStamp = matricesStamp;
+      projectionViewUpdate = update;
+    }
+    return projectionViewMat;
+  }
+
+  /**
+   * Returns the cached inverse of the {@link #projectionView()} matrix, or null if it is
+   * not invertible. Don't modify it.
+   *
+   * @see #projectionView()
+   */
+  public Mat projectionViewInverse() {
+    long update = lastUpdate();
+    if (projectionViewInverseStamp != matricesStamp || projectionViewInverseUpdate != update) {
+      projectionViewMatHasInverse = projectionView().invert(projectionViewInverseMat);
+      projectionViewInverseStamp = matricesStamp;
+      projectionViewInverseUpdate = update;
+    }
+    return projectionViewMatHasInverse ? projectionViewInverseMat : null;
   }
 
   /**
@@ -1352,49 +1400,28 @@ public abstract class Eye implements Copyable {
     return project(null, objx, objy, objz, windowCoordinate);
   }
 
-  // cached version
+  /**
+   * Same as {@link #project(float, float, float, float[])}, but using the given
+   * {@code projectionViewMat}. When it is null, the cached {@link #projectionView()} is
+   * used.
+   */
   public boolean project(Mat projectionViewMat, float objx, float objy, float objz, float[] windowCoordinate) {
-    if (projectionViewMat == null)
-      projectionViewMat = Mat.multiply(projectionMat, viewMat);
-
-    float in[] = new float[4];
-    float out[] = new float[4];
-
-    in[0] = objx;
-    in[1] = objy;
-    in[2] = objz;
-    in[3] = 1.0f;
-
-    out[0] = projectionViewMat.mat[0] * in[0] + projectionViewMat.mat[4] * in[1] + projectionViewMat.mat[8] * in[2]
-        + projectionViewMat.mat[12] * in[3];
-    out[1] = projectionViewMat.mat[1] * in[0] + projectionViewMat.mat[5] * in[1] + projectionViewMat.mat[9] * in[2]
-        + projectionViewMat.mat[13] * in[3];
-    out[2] = projectionViewMat.mat[2] * in[0] + projectionViewMat.mat[6] * in[1] + projectionViewMat.mat[10] * in[2]
-        + projectionViewMat.mat[14] * in[3];
-    out[3] = projectionViewMat.mat[3] * in[0] + projectionViewMat.mat[7] * in[1] + projectionViewMat.mat[11] * in[2]
-        + projectionViewMat.mat[15] * in[3];
-
-    if (out[3] == 0.0)
-      return false;
-
-    updateViewPort();
+    float[] m = (projectionViewMat == null ? projectionView() : projectionViewMat).mat;
 
-    out[0] /= out[3];
-    out[1] /= out[3];
-    out[2] /= out[3];
+    float w = m[3] * objx + m[7] * objy + m[11] * objz + m[15];
+    if (w == 0.0)
+      return false;
 
-    // Map x, y and z to range 0-1
-    out[0] = out[0] * 0.5f + 0.5f;
-    out[1] = out[1] * 0.5f + 0.5f;
-    out[2] = out[2] * 0.5f + 0.5f;
+    float x = (m[0] * objx + m[4] * objy + m[8] * objz + m[12]) / w;
+    float y = (m[1] * objx + m[5] * objy + m[9] * objz + m[13]) / w;
+    float z = (m[2] * objx + m[6] * objy + m[10] * objz + m[14]) / w;
 
-    // Map x,y to viewport
-    out[0] = out[0] * viewport[2] + viewport[0];
-    out[1] = out[1] * viewport[3] + viewport[1];
+    updateViewPort();
 
-    windowCoordinate[0] = out[0];
-    windowCoordinate[1] = out[1];
-    windowCoordinate[2] = out[2];
+    // Map x, y and z to range 0-1, and then x,y to viewport
+    windowCoordinate[0] = (x * 0.5f + 0.5f) * viewport[2] + viewport[0];
+    windowCoordinate[1] = (y * 0.5f + 0.5f) * viewport[3] + viewport[1];
+    windowCoordinate[2] = z * 0.5f + 0.5f;
 
     return true;
   }
@@ -1416,46 +1443,149 @@ public abstract class Eye implements Copyable {
   // cached version
   public boolean unproject(Mat projectionViewInverseMat, float winx, float winy, float winz, float[] objCoordinate) {
     if (projectionViewInverseMat == null) {
-      projectionViewInverseMat = new Mat();
-      boolean projectionViewMatHasInverse = Mat.multiply(projectionMat, viewMat).invert(projectionViewInverseMat);
-      if (projectionViewMatHasInverse)
-        return unproject(projectionViewInverseMat, winx, winy, winz, objCoordinate);
-      else
+      projectionViewInverseMat = projectionViewInverse();
+      if (projectionViewInverseMat == null)
         return false;
     }
 
     updateViewPort();
 
-    float in[] = new float[4];
-    float out[] = new float[4];
+    /* Map x and y from window coordinates, and then to range -1 to 1 */
+    float x = (winx - viewport[0]) / viewport[2] * 2 - 1;
+    float y = (winy - viewport[1]) / viewport[3] * 2 - 1;
+    float z = winz * 2 - 1;
+
+    float[] m = projectionViewInverseMat.mat;
+    float w = m[3] * x + m[7] * y + m[11] * z + m[15];
+    if (Util.zero(w))
+      return false;
 
-    in[0] = winx;
-    in[1] = winy;
-    in[2] = winz;
-    in[3] = 1.0f;
+    float objx = (m[0] * x + m[4] * y + m[8] * z + m[12]) / w;
+    float objy = (m[1] * x + m[5] * y + m[9] * z + m[13]) / w;
+    float objz = (m[2] * x + m[6] * y + m[10] * z + m[14]) / w;
 
-    /* Map x and y from window coordinates */
-    in[0] = (in[0] - viewport[0]) / viewport[2];
-    in[1] = (in[1] - viewport[1]) / viewport[3];
+    objCoordinate[0] = objx;
+    objCoordinate[1] = objy;
+    objCoordinate[2] = objz;
 
-    /* Map to range -1 to 1 */
-    in[0] = in[0] * 2 - 1;
-    in[1] = in[1] * 2 - 1;
-    in[2] = in[2] * 2 - 1;
+    return true;
+  }
 
-    projectionViewInverseMat.multiply(in, out);
-    if (Util.zero(out[3]))
-      return false;
+  /**
+   * Convenience function that simply returns
+   * {@code project(null, xyzIn, xyzOut, offset, count)}.
+   *
+   * @see #project(Mat, float[], float[], int, int)
+   */
+  public int project(float[] xyzIn, float[] xyzOut, int offset, int count) {
+    return project(null, xyzIn, xyzOut, offset, count);
+  }
 
-    out[0] /= out[3];
-    out[1] /= out[3];
-    out[2] /= out[3];
+  /**
+   * Bulk version of {@link #project(Mat, float, float, float, float[])}. Projects the
+   * {@code count} points packed (as {@code x, y, z} triplets) in {@code xyzIn}, starting
+   * at point {@code offset} (i.e., at {@code xyzIn[3 * offset]}), and stores their window
+   * coordinates at the same place in {@code xyzOut}, which may be {@code xyzIn} itself.
+   * Points that cannot be projected are left untouched in {@code xyzOut}.
+   * <p>
+   * When {@code projectionViewMat} is null, the cached {@link #projectionView()} is used.
+   * No memory is allocated.
+   *
+   * @return the number of projected points.
+   * @see #unproject(Mat, float[], float[], int, int)
+   */
+  public int project(Mat projectionViewMat, float[] xyzIn, float[] xyzOut, int offset, int count) {
+    updateViewPort();
+    return project(projectionViewMat == null ? projectionView() : projectionViewMat, viewport, xyzIn, xyzOut, offset,
+        count);
+  }
+
+  /**
+   * Same as {@link #project(Mat, float[], float[], int, int)}, but taking both the
+   * {@code projectionViewMat} (which shouldn't be null) and the viewport {@code vp} (see
+   * {@link #getViewport(int[])}) as parameters. Since it doesn't touch any eye state, it
+   * may be called concurrently on disjoint ranges of points (see
+   * {@code remixlab.proscene.Parallel}).
+   */
+  public static int project(Mat projectionViewMat, int[] vp, float[] xyzIn, float[] xyzOut, int offset, int count) {
+    float[] m = projectionViewMat.mat;
+    float vx = vp[0], vy = vp[1], vw = vp[2] * 0.5f, vh = vp[3] * 0.5f;
+    int projected = 0;
+    for (int i = 3 * offset, end = 3 * (offset + count); i < end; i += 3) {
+      float x = xyzIn[i], y = xyzIn[i + 1], z = xyzIn[i + 2];
+      float w = m[3] * x + m[7] * y + m[11] * z + m[15];
+      if (w == 0.0)
+        continue;
+      float px = (m[0] * x + m[4] * y + m[8] * z + m[12]) / w;
+      float py = (m[1] * x + m[5] * y + m[9] * z + m[13]) / w;
+      float pz = (m[2] * x + m[6] * y + m[10] * z + m[14]) / w;
+      xyzOut[i] = (px + 1) * vw + vx;
+      xyzOut[i + 1] = (py + 1) * vh + vy;
+      xyzOut[i + 2] = pz * 0.5f + 0.5f;
+      projected++;
+    }
+    return projected;
+  }
 
-    objCoordinate[0] = out[0];
-    objCoordinate[1] = out[1];
-    objCoordinate[2] = out[2];
+  /**
+   * Convenience function that simply returns
+   * {@code unproject(null, xyzIn, xyzOut, offset, count)}.
+   *
+   * @see #unproject(Mat, float[], float[], int, int)
+   */
+  public int unproject(float[] xyzIn, float[] xyzOut, int offset, int count) {
+    return unproject(null, xyzIn, xyzOut, offset, count);
+  }
 
-    return true;
+  /**
+   * Bulk version of {@link #unproject(Mat, float, float, float, float[])}. Unprojects the
+   * {@code count} window points packed (as {@code x, y, z} triplets) in {@code xyzIn},
+   * starting at point {@code offset} (i.e., at {@code xyzIn[3 * offset]}), and stores
+   * their world coordinates at the same place in {@code xyzOut}, which may be
+   * {@code xyzIn} itself. Points that cannot be unprojected are left untouched in
+   * {@code xyzOut}.
+   * <p>
+   * When {@code projectionViewInverseMat} is null, the cached
+   * {@link #projectionViewInverse()} is used. No memory is allocated.
+   *
+   * @return the number of unprojected points.
+   * @see #project(Mat, float[], float[], int, int)
+   */
+  public int unproject(Mat projectionViewInverseMat, float[] xyzIn, float[] xyzOut, int offset, int count) {
+    if (projectionViewInverseMat == null) {
+      projectionViewInverseMat = projectionViewInverse();
+      if (projectionViewInverseMat == null)
+        return 0;
+    }
+    updateViewPort();
+    return unproject(projectionViewInverseMat, viewport, xyzIn, xyzOut, offset, count);
+  }
+
+  /**
+   * Same as {@link #unproject(Mat, float[], float[], int, int)}, but taking both the
+   * {@code projectionViewInverseMat} (which shouldn't be null) and the viewport
+   * {@code vp} (see {@link #getViewport(int[])}) as parameters. Since it doesn't touch
+   * any eye state, it may be called concurrently on disjoint ranges of points (see
+   * {@code remixlab.proscene.Parallel}).
+   */
+  public static int unproject(Mat projectionViewInverseMat, int[] vp, float[] xyzIn, float[] xyzOut, int offset,
+      int count) {
+    float[] m = projectionViewInverseMat.mat;
+    float vx = vp[0], vy = vp[1], vw = vp[2], vh = vp[3];
+    int unprojected = 0;
+    for (int i = 3 * offset, end = 3 * (offset + count); i < end; i += 3) {
+      float x = (xyzIn[i] - vx) / vw * 2 - 1;
+      float y = (xyzIn[i + 1] - vy) / vh * 2 - 1;
+      float z = xyzIn[i + 2] * 2 - 1;
+      float w = m[3] * x + m[7] * y + m[11] * z + m[15];
+      if (Util.zero(w))
+        continue;
+      xyzOut[i] = (m[0] * x + m[4] * y + m[8] * z + m[12]) / w;
+      xyzOut[i + 1] = (m[1] * x + m[5] * y + m[9] * z + m[13]) / w;
+      xyzOut[i + 2] = (m[2] * x + m[6] * y + m[10] * z + m[14]) / w;
+      unprojected++;
+    }
+    return unprojected;
   }
 
   // 7. KEYFRAMED PATHS
@@ -0,0 +1,577 @@
+/**************************************************************************************
+ * dandelion_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.dandelion.core;
+
+import remixlab.dandelion.geom.Point;
+import remixlab.dandelion.geom.Vec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounding volume hierarchy of the scene frames (see
+ * {@link remixlab.dandelion.core.AbstractScene#frames(boolean)}) having bounds (see
+ * {@link remixlab.dandelion.core.GenericFrame#setBoundingBall(Vec, float)} and
+ * {@link remixlab.dandelion.core.GenericFrame#setBoundingBox(Vec, Vec)}). Get it with
+ * {@link remixlab.dandelion.core.AbstractScene#frameBVH()}.
+ * <p>
+ * The hierarchy is a binary tree of world axis aligned boxes, which answers ray,
+ * frustum and ball/box overlap queries in sub-linear time. It is lazily brought up to
+ * date by the queries themselves (see {@link #update()}): it is rebuilt when frames are
+ * added to or removed from the scene tree (or gain or lose their bounds), and otherwise
+ * only the leaves of the frames that were modified since the last query are refit.
+ * <p>
+ * Note that a frame is indexed regardless of its
+ * {@link remixlab.dandelion.core.GenericFrame#referenceFrame()} bounds, i.e., the
+ * hierarchy is independent of the frame tree.
+ */
+public class FrameBVH {
+  protected AbstractScene scene;
+  protected boolean valid;
+
+  // leaves
+  protected GenericFrame[] frames = new GenericFrame[0];
+  protected int count;
+  // world bounds of the leaves: box (min, max) and ball (radius < 0 for box bounds)
+  protected float[] leafBox = new float[0];
+  protected float[] ball = new float[0];
+  protected int[] leafNode = new int[0];
+  protected int[] dirty = new int[16];
+  protected boolean[] isDirty = new boolean[0];
+  protected int dirtyCount;
+  // frames having no bounds, which are never reported by the queries
+  protected GenericFrame[] unbounded = new GenericFrame[0];
+
+  // nodes, stored in pre-order so that children come after their parent
+  protected int nodeCount;
+  protected float[] min = new float[0], max = new float[0];
+  // left child, or -(leaf + 1) for leaf nodes
+  protected int[] left = new int[0], right = new int[0], parent = new int[0];
+
+  // scratch
+  protected int[] stack = new int[64];
+  protected float[] distances = new float[16];
+  protected Vec vMin = new Vec(), vMax = new Vec();
+
+  /**
+   * Constructs the bounding volume hierarchy of the given scene frames.
+   */
+  public FrameBVH(AbstractScene scn) {
+    scene = scn;
+  }
+
+  /**
+   * Returns the scene this hierarchy belongs to.
+   */
+  public AbstractScene scene() {
+    return scene;
+  }
+
+  /**
+   * Returns the number of indexed frames.
+   */
+  public int size() {
+    update();
+    return count;
+  }
+
+  /**
+   * Marks the whole hierarchy as outdated, so that it gets rebuilt at the next query.
+   */
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Marks the leaf of the given frame as outdated, so that it gets refit at the next
+   * query. Automatically called when the frame is modified.
+   */
+  public void invalidate(GenericFrame frame) {
+    if (!valid)
+      return;
+    int leaf = frame.bvhLeaf;
+    if (leaf < 0 || leaf >= count || frames[leaf] != frame || isDirty[leaf])
+      return;
+    isDirty[leaf] = true;
+    if (dirtyCount == dirty.length) {
+      int[] grown = new int[2 * dirtyCount];
+      System.arraycopy(dirty, 0, grown, 0, dirtyCount);
+      dirty = grown;
+    }
+    dirty[dirtyCount++] = leaf;
+  }
+
+  /**
+   * Brings the hierarchy up to date, rebuilding or refitting it as needed. Called by all
+   * the queries.
+   */
+  public void update() {
+    if (!valid)
+      rebuild();
+    else if (dirtyCount > 0)
+      refit();
+  }
+
+  /**
+   * Rebuilds the whole hierarchy from the scene frames having bounds.
+   */
+  public void rebuild() {
+    for (int i = 0; i < count; i++)
+      frames[i].bvhLeaf = -1;
+    ArrayList<GenericFrame> list = new ArrayList<GenericFrame>();
+    ArrayList<GenericFrame> others = new ArrayList<GenericFrame>();
+    for (GenericFrame frame : scene.frames(false))
+      if (frame.hasBounds())
+        list.add(frame);
+      else
+        others.add(frame);
+    unbounded = others.toArray(new GenericFrame[others.size()]);
+    count = list.size();
+    frames = list.toArray(new GenericFrame[count]);
+    leafBox = new float[6 * count];
+    ball = new float[4 * count];
+    leafNode = new int[count];
+    isDirty = new boolean[count];
+    dirtyCount = 0;
+    int nodes = Math.max(1, 2 * count - 1);
+    min = new float[3 * nodes];
+    max = new float[3 * nodes];
+    left = new int[nodes];
+    right = new int[nodes];
+    parent = new int[nodes];
+    nodeCount = 0;
+    valid = true;
+    if (count == 0)
+      return;
+    int[] order = new int[count];
+    float[] centroid = new float[3 * count];
+    for (int i = 0; i < count; i++) {
+      frames[i].bvhLeaf = i;
+      order[i] = i;
+      fitLeaf(i);
+      for (int k = 0; k < 3; k++)
+        centroid[3 * i + k] = (leafMin(i, k) + leafMax(i, k)) / 2;
+    }
+    build(order, centroid, 0, count, -1);
+  }
+
+  protected float leafMin(int leaf, int k) {
+    return leafBox[6 * leaf + k];
+  }
+
+  protected float leafMax(int leaf, int k) {
+    return leafBox[6 * leaf + 3 + k];
+  }
+
+  /**
+   * Recomputes the world bounds of the given leaf.
+   */
+  protected void fitLeaf(int leaf) {
+    GenericFrame frame = frames[leaf];
+    frame.worldBounds(vMin, vMax);
+    for (int k = 0; k < 3; k++) {
+      leafBox[6 * leaf + k] = vMin.vec[k];
+      leafBox[6 * leaf + 3 + k] = vMax.vec[k];
+    }
+    if (frame.bndMin == null) {
+      for (int k = 0; k < 3; k++)
+        ball[4 * leaf + k] = (vMin.vec[k] + vMax.vec[k]) / 2;
+      ball[4 * leaf + 3] = (vMax.vec[0] - vMin.vec[0]) / 2;
+    } else
+      ball[4 * leaf + 3] = -1;
+  }
+
+  protected int build(int[] order, float[] centroid, int start, int end, int parentNode) {
+    int node = nodeCount++;
+    parent[node] = parentNode;
+    if (end - start == 1) {
+      int leaf = order[start];
+      left[node] = -(leaf + 1);
+      right[node] = -1;
+      leafNode[leaf] = node;
+      for (int k = 0; k < 3; k++) {
+        min[3 * node + k] = leafMin(leaf, k);
+        max[3 * node + k] = leafMax(leaf, k);
+      }
+      return node;
+    }
+    // split at the median of the centroids along the widest axis
+    float[] lo = { Float.MAX_VALUE, Float.MAX_VALUE, Float.MAX_VALUE };
+    float[] hi = { -Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE };
+    for (int i = start; i < end; i++)
+      for (int k = 0; k < 3; k++) {
+        lo[k] = Math.min(lo[k], centroid[3 * order[i] + k]);
+        hi[k] = Math.max(hi[k], centroid[3 * order[i] + k]);
+      }
+    int axis = 0;
+    for (int k = 1; k < 3; k++)
+      if (hi[k] - lo[k] > hi[axis] - lo[axis])
+        axis = k;
+    int middle = (start + end) >>> 1;
+    select(order, centroid, axis, start, end - 1, middle);
+    left[node] = build(order, centroid, start, middle, node);
+    right[node] = build(order, centroid, middle, end, node);
+    enclose(node);
+    return node;
+  }
+
+  /**
+   * Internal use. Quickselect: reorders {@code order[from..to]} so that {@code order[nth]}
+   * gets its final position when sorted by the {@code axis} coordinate of the
+   * {@code centroid}s (packed as {@code x, y, z} triplets) they index. Shared with the
+   * proscene shape triangle hierarchy.
+   */
+  public static void select(int[] order, float[] centroid, int axis, int from, int to, int nth) {
+    while (to > from) {
+      float pivot = centroid[3 * order[(from + to) >>> 1] + axis];
+      int i = from, j = to;
+      while (i <= j) {
+        while (centroid[3 * order[i] + axis] < pivot)
+          i++;
+        while (centroid[3 * order[j] + axis] > pivot)
+          j--;
+        if (i <= j) {
+          int tmp = order[i];
+          order[i++] = order[j];
+          order[j--] = tmp;
+        }
+      }
+      if (nth <= j)
+        to = j;
+      else if (nth >= i)
+        from = i;
+      else
+        return;
+    }
+  }
+
+  // sets the node box to the union of its children boxes
+  protected void enclose(int node) {
+    int l = left[node], r = right[node];
+    for (int k = 0; k < 3; k++) {
+      min[3 * node + k] = Math.min(min[3 * l + k], min[3 * r + k]);
+      max[3 * node + k] = Math.max(max[3 * l + k], max[3 * r + k]);
+    }
+  }
+
+  /**
+   * Refits the leaves of the modified frames and their ancestor nodes.
+   */
+  protected void refit() {
+    boolean full = 4 * dirtyCount > count;
+    for (int i = 0; i < dirtyCount; i++) {
+      int leaf = dirty[i];
+      isDirty[leaf] = false;
+      fitLeaf(leaf);
+      int node = leafNode[leaf];
+      for (int k = 0; k < 3; k++) {
+        min[3 * node + k] = leafMin(leaf, k);
+        max[3 * node + k] = leafMax(leaf, k);
+      }
+      if (!full)
+        for (node = parent[node]; node >= 0; node = parent[node])
+          enclose(node);
+    }
+    dirtyCount = 0;
+    // bottom-up pass, children are stored after their parent
+    if (full)
+      for (int node = nodeCount - 1; node >= 0; node--)
+        if (left[node] >= 0)
+          enclose(node);
+  }
+
+  protected int push(int top, int node) {
+    if (top == stack.length) {
+      int[] grown = new int[2 * top];
+      System.arraycopy(stack, 0, grown, 0, top);
+      stack = grown;
+    }
+    stack[top] = node;
+    return top + 1;
+  }
+
+  // appends all the leaves below node, using the stack above base
+  protected void collect(int node, List<GenericFrame> result, int base) {
+    int top = push(base, node);
+    while (top > base) {
+      int n = stack[--top];
+      if (left[n] < 0)
+        result.add(frames[-left[n] - 1]);
+      else {
+        top = push(top, left[n]);
+        top = push(top, right[n]);
+      }
+    }
+  }
+
+  // 1. Ray queries
+
+  /**
+   * Appends to {@code result} the frames which bounds are hit by the ray defined by
+   * {@code origin} and {@code direction} (in world coordinates), sorted by increasing
+   * hit distance, and returns it.
+   */
+  public List<GenericFrame> raycast(Vec origin, Vec direction, List<GenericFrame> result) {
+    update();
+    if (count == 0)
+      return result;
+    float[] o = origin.vec, d = direction.vec;
+    float[] inv = new float[3];
+    for (int k = 0; k < 3; k++)
+      inv[k] = 1 / d[k];
+    int first = result.size(), hits = 0;
+    int top = push(0, 0);
+    while (top > 0) {
+      int node = stack[--top];
+      float t = rayBox(min, max, node, o, inv);
+      if (t < 0)
+        continue;
+      if (left[node] >= 0) {
+        top = push(top, left[node]);
+        top = push(top, right[node]);
+        continue;
+      }
+      int leaf = -left[node] - 1;
+      if (ball[4 * leaf + 3] >= 0) {
+        t = rayBall(leaf, o, d);
+        if (t < 0)
+          continue;
+      }
+      // insertion sort by distance
+      if (hits == distances.length) {
+        float[] grown = new float[2 * hits];
+        System.arraycopy(distances, 0, grown, 0, hits);
+        distances = grown;
+      }
+      int i = hits++;
+      for (; i > 0 && distances[i - 1] > t; i--)
+        distances[i] = distances[i - 1];
+      distances[i] = t;
+      result.add(first + i, frames[leaf]);
+    }
+    return result;
+  }
+
+  /**
+   * Appends to {@code result} the scene frames having no bounds, which are hence never
+   * reported by the queries, and returns it. Useful to complete a query with a linear
+   * test of those frames.
+   */
+  public List<GenericFrame> unboundedFrames(List<GenericFrame> result) {
+    update();
+    for (GenericFrame frame : unbounded)
+      result.add(frame);
+    return result;
+  }
+
+  /**
+   * Returns the nearest frame which bounds are hit by the ray defined by {@code origin}
+   * and {@code direction} (in world coordinates), or null if none is hit.
+   */
+  public GenericFrame raycast(Vec origin, Vec direction) {
+    List<GenericFrame> hits = raycast(origin, direction, new ArrayList<GenericFrame>());
+    return hits.isEmpty() ? null : hits.get(0);
+  }
+
+  /**
+   * Appends to {@code result} the frames which bounds are under the given screen
+   * {@code pixel}, sorted from the nearest to the farthest (only in 3D), and returns it.
+   * The ray is computed with
+   * {@link remixlab.dandelion.core.Camera#convertClickToLine(Point, Vec, Vec)}.
+   */
+  public List<GenericFrame> pick(Point pixel, List<GenericFrame> result) {
+    if (scene.is3D()) {
+      Vec origin = new Vec(), direction = new Vec();
+      ((Camera) scene.eye()).convertClickToLine(pixel, origin, direction);
+      return raycast(origin, direction, result);
+    }
+    Vec point = scene.eye().unprojectedCoordinatesOf(new Vec(pixel.x(), pixel.y(), 0.5f));
+    point.setZ(0);
+    return overlaps(point, 0, result);
+  }
+
+  /**
+   * Returns the nearest frame which bounds are under the given screen {@code pixel}, or
+   * null if there's none.
+   *
+   * @see #pick(Point, List)
+   */
+  public GenericFrame pick(Point pixel) {
+    List<GenericFrame> hits = pick(pixel, new ArrayList<GenericFrame>());
+    return hits.isEmpty() ? null : hits.get(0);
+  }
+
+  /**
+   * Internal use. Slab test of the ray {@code o + t d} ({@code t >= 0}) against the box
+   * which corners are at {@code min[3 * node]} and {@code max[3 * node]}, being
+   * {@code inv} the component-wise inverse of {@code d}. Returns the entry distance, or -1
+   * if the box is missed. Shared with the proscene shape triangle hierarchy.
+   */
+  public static float rayBox(float[] min, float[] max, int node, float[] o, float[] inv) {
+    float near = 0, far = Float.MAX_VALUE;
+    for (int k = 0; k < 3; k++) {
+      float lo = min[3 * node + k], hi = max[3 * node + k];
+      if (Float.isInfinite(inv[k])) {
+        if (o[k] < lo || o[k] > hi)
+          return -1;
+        continue;
+      }
+      float t1 = (lo - o[k]) * inv[k], t2 = (hi - o[k]) * inv[k];
+      near = Math.max(near, Math.min(t1, t2));
+      far = Math.min(far, Math.max(t1, t2));
+      if (near > far)
+        return -1;
+    }
+    return near;
+  }
+
+  protected float rayBall(int leaf, float[] o, float[] d) {
+    float cx = ball[4 * leaf] - o[0], cy = ball[4 * leaf + 1] - o[1], cz = ball[4 * leaf + 2] - o[2];
+    float r = ball[4 * leaf + 3];
+    float dd = d[0] * d[0] + d[1] * d[1] + d[2] * d[2];
+    float b = (cx * d[0] + cy * d[1] + cz * d[2]) / dd;
+    float c = (cx * cx + cy * cy + cz * cz - r * r) / dd;
+    float disc = b * b - c;
+    if (disc < 0)
+      return -1;
+    float s = (float) Math.sqrt(disc);
+    if (b + s < 0)
+      return -1;
+    return Math.max(0, b - s);
+  }
+
+  // 2. Frustum queries
+
+  /**
+   * Appends to {@code result} the frames which bounds are (at least partially) inside the
+   * eye boundary (see {@link remixlab.dandelion.core.Eye#getBoundaryEquations()}), and
+   * returns it. Requires the boundary equations to be enabled (see
+   * {@link remixlab.dandelion.core.AbstractScene#enableBoundaryEquations()}).
+   */
+  public List<GenericFrame> visibleFrames(List<GenericFrame> result) {
+    update();
+    if (count == 0)
+      return result;
+    float[][] planes = scene.eye().getBoundaryEquations();
+    boolean is3D = scene.is3D();
+    int top = push(0, 0);
+    while (top > 0) {
+      int node = stack[--top];
+      boolean inside = true, outside = false;
+      for (int i = 0; i < planes.length && !outside; i++) {
+        float[] p = planes[i];
+        // nearest (n) and farthest (f) box corners along the plane normal
+        float nx = p[0] > 0 ? min[3 * node] : max[3 * node];
+        float ny = p[1] > 0 ? min[3 * node + 1] : max[3 * node + 1];
+        float fx = p[0] > 0 ? max[3 * node] : min[3 * node];
+        float fy = p[1] > 0 ? max[3 * node + 1] : min[3 * node + 1];
+        float near, far;
+        if (is3D) {
+          float nz = p[2] > 0 ? min[3 * node + 2] : max[3 * node + 2];
+          float fz = p[2] > 0 ? max[3 * node + 2] : min[3 * node + 2];
+          near = p[0] * nx + p[1] * ny + p[2] * nz - p[3];
+          far = p[0] * fx + p[1] * fy + p[2] * fz - p[3];
+        } else {
+          near = p[0] * nx + p[1] * ny + p[2];
+          far = p[0] * fx + p[1] * fy + p[2];
+        }
+        if (near > 0)
+          outside = true;
+        else if (far > 0)
+          inside = false;
+      }
+      if (outside)
+        continue;
+      if (inside || left[node] < 0)
+        collect(node, result, top);
+      else {
+        top = push(top, left[node]);
+        top = push(top, right[node]);
+      }
+    }
+    return result;
+  }
+
+  // 3. Overlap queries
+
+  /**
+   * Appends to {@code result} the frames which bounds overlap the ball defined by
+   * {@code center} and {@code radius} (in world coordinates), and returns it.
+   */
+  public List<GenericFrame> overlaps(Vec center, float radius, List<GenericFrame> result) {
+    update();
+    if (count == 0)
+      return result;
+    float[] c = center.vec;
+    float r2 = radius * radius;
+    int top = push(0, 0);
+    while (top > 0) {
+      int node = stack[--top];
+      float d2 = 0;
+      for (int k = 0; k < 3; k++) {
+        float v = Math.max(min[3 * node + k] - c[k], Math.max(0, c[k] - max[3 * node + k]));
+        d2 += v * v;
+      }
+      if (d2 > r2)
+        continue;
+      if (left[node] >= 0) {
+        top = push(top, left[node]);
+        top = push(top, right[node]);
+        continue;
+      }
+      int leaf = -left[node] - 1;
+      float br = ball[4 * leaf + 3];
+      if (br >= 0) {
+        float dx = ball[4 * leaf] - c[0], dy = ball[4 * leaf + 1] - c[1], dz = ball[4 * leaf + 2] - c[2];
+        if (dx * dx + dy * dy + dz * dz > (br + radius) * (br + radius))
+          continue;
+      }
+      result.add(frames[leaf]);
+    }
+    return result;
+  }
+
+  /**
+   * Appends to {@code result} the frames which bounds overlap the world axis aligned box
+   * defined by its {@code corner1} and {@code corner2}, and returns it.
+   */
+  public List<GenericFrame> overlaps(Vec corner1, Vec corner2, List<GenericFrame> result) {
+    update();
+    if (count == 0)
+      return result;
+    float[] lo = new float[3], hi = new float[3];
+    for (int k = 0; k < 3; k++) {
+      lo[k] = Math.min(corner1.vec[k], corner2.vec[k]);
+      hi[k] = Math.max(corner1.vec[k], corner2.vec[k]);
+    }
+    int top = push(0, 0);
+    while (top > 0) {
+      int node = stack[--top];
+      boolean overlap = true;
+      boolean contained = true;
+      for (int k = 0; k < 3 && overlap; k++) {
+        if (min[3 * node + k] > hi[k] || max[3 * node + k] < lo[k])
+          overlap = false;
+        else if (min[3 * node + k] < lo[k] || max[3 * node + k] > hi[k])
+          contained = false;
+      }
+      if (!overlap)
+        continue;
+      if (contained || left[node] < 0)
+        collect(node, result, top);
+      else {
+        top = push(top, left[node]);
+        top = push(top, right[node]);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,96 @@
+/**************************************************************************************
+ * dandelion_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.dandelion.core;
+
+import java.util.List;
+
+/**
+ * Iterative depth-first traversal of a {@link remixlab.dandelion.core.GenericFrame}
+ * branch, which calls {@link #enter(GenericFrame)} on each frame before visiting its
+ * {@link remixlab.dandelion.core.GenericFrame#children()} (pre-order) and
+ * {@link #exit(GenericFrame)} on it after them (post-order).
+ * <p>
+ * The path from the root to the current frame is kept in an explicit stack (which grows
+ * as needed), instead of the Java call stack, so that branches of any depth (e.g., long
+ * skeletons or procedural chains) may be traversed. The stack is reused among calls, and
+ * {@link #traverse(GenericFrame)} may be called again from within the callbacks.
+ * <p>
+ * Derive from this class implementing {@link #enter(GenericFrame)}, and optionally
+ * {@link #exit(GenericFrame)}. See for instance
+ * {@link remixlab.dandelion.core.AbstractScene#traverseTree()}.
+ */
+public abstract class FrameTraversal {
+  // current path: frames and index of the next child of each one to be visited
+  protected GenericFrame[] path = new GenericFrame[32];
+  protected int[] next = new int[32];
+  protected int depth;
+
+  /**
+   * Pre-order callback. Returns {@code false} to skip the {@code frame} branch, in which
+   * case neither its descendants are visited nor {@link #exit(GenericFrame)} is called on
+   * it.
+   */
+  protected abstract boolean enter(GenericFrame frame);
+
+  /**
+   * Post-order callback, called once all the {@code frame} children have been visited.
+   * Default implementation is empty.
+   */
+  protected void exit(GenericFrame frame) {
+  }
+
+  /**
+   * Returns the number of frames in the current path, i.e., within the callbacks, the
+   * number of ancestors of the frame being entered or exited (counted from the traversed
+   * root, which is at depth {@code 0}).
+   */
+  public int depth() {
+    return depth;
+  }
+
+  /**
+   * Traverses the {@code root} branch. Does nothing if {@code root} is null.
+   */
+  public void traverse(GenericFrame root) {
+    if (root == null || !enter(root))
+      return;
+    int base = depth;
+    push(root);
+    while (depth > base) {
+      GenericFrame frame = path[depth - 1];
+      List<GenericFrame> children = frame.children();
+      int i = next[depth - 1];
+      if (i < children.size()) {
+        next[depth - 1] = i + 1;
+        GenericFrame child = children.get(i);
+        if (enter(child))
+          push(child);
+      } else {
+        path[--depth] = null;
+        exit(frame);
+      }
+    }
+  }
+
+  protected void push(GenericFrame frame) {
+    if (depth == path.length) {
+      GenericFrame[] grownPath = new GenericFrame[2 * depth];
+      int[] grownNext = new int[2 * depth];
+      System.arraycopy(path, 0, grownPath, 0, depth);
+      System.arraycopy(next, 0, grownNext, 0, depth);
+      path = grownPath;
+      next = grownNext;
+    }
+    path[depth] = frame;
+    next[depth] = 0;
+    depth++;
+  }
+}
@@ -16,7 +16,6 @@ import remixlab.bias.core.Grabber;
 import remixlab.bias.event.*;
 import remixlab.dandelion.core.AbstractScene.Platform;
 import remixlab.dandelion.geom.*;
-import remixlab.fpstiming.TimingTask;
 import remixlab.util.Util;
 
 import java.util.ArrayList;
@@ -125,7 +124,8 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
 
   // spinning stuff:
   private float spngSensitivity;
-  private TimingTask spinningTimerTask;
+  // slots in the scene motionIntegrator() active sets (-1 when idle)
+  int spinSlot = -1, flySlot = -1;
   private Rotation spngRotation;
   protected float dampFriction; // new
   // toss and spin share the damp var:
@@ -141,7 +141,6 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
 
   protected Vec fDir;
   protected float flySpd;
-  protected TimingTask flyTimerTask;
   protected Vec scnUpVec;
   protected Vec flyDisp;
   protected static final long FLY_UPDATE_PERDIOD = 20;
@@ -170,6 +169,36 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
 
   protected List<GenericFrame> childrenList;
 
+  // B o u n d i n g v o l u m e s
+  // local bounding ball (bndRadius < 0 means no bounds) and box (may be null)
+  protected Vec bndCenter, bndMin, bndMax;
+  protected float bndRadius = -1;
+  // world bounding ball of the frame and all its descendants
+  protected Vec subtreeCenter = new Vec();
+  protected float subtreeRadius;
+  protected boolean subtreeBounded, subtreeDirty = true;
+  protected int subtreeSize;
+  protected Eye.Visibility visibility = Eye.Visibility.VISIBLE;
+  // visibility of the parent branch, restored when the scene traversal leaves the frame
+  Eye.Visibility parentVisibility;
+  // leaf of the scene frame BVH (-1 if not indexed)
+  int bvhLeaf = -1;
+  // index in the scene transform store (-1 if not stored)
+  int storeIndex = -1;
+  // post-order traversal of updateSubtreeBounds(): the outdated descendant branches are
+  // updated before their parents. Each scene owns one (see AbstractScene.boundsTraversal)
+  static class SubtreeBoundsTraversal extends FrameTraversal {
+    @Override
+    protected boolean enter(GenericFrame frame) {
+      return frame.subtreeDirty;
+    }
+
+    @Override
+    protected void exit(GenericFrame frame) {
+      frame.updateSubtreeBall();
+    }
+  }
+
   /**
    * Same as {@code this(scn, null, new Vec(), scn.is3D() ? new Quat() : new Rot(), 1)}.
    *
@@ -512,22 +541,8 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
     setSpinningSensitivity(0.3f);
     setDamping(0.5f);
 
-    spinningTimerTask = new TimingTask() {
-      public void execute() {
-        spinExecution();
-      }
-    };
-    scene().registerTimingTask(spinningTimerTask);
-
     scnUpVec = new Vec(0.0f, 1.0f, 0.0f);
     flyDisp = new Vec(0.0f, 0.0f, 0.0f);
-    flyTimerTask = new TimingTask() {
-      public void execute() {
-        fly();
-      }
-    };
-    scene().registerTimingTask(flyTimerTask);
-    // end
 
     // init 3rd person stuff
     q = scene().is3D() ? new Quat((float) Math.PI / 4, 0, 0) : new Rot((float) Math.PI / 4);
@@ -542,24 +557,10 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
     this.childrenList = new ArrayList<GenericFrame>();
     this.setReferenceFrame(referenceFrame());// restorePath
 
-    this.spinningTimerTask = new TimingTask() {
-      public void execute() {
-        spinExecution();
-      }
-    };
-
-    this.gScene.registerTimingTask(spinningTimerTask);
-
     this.scnUpVec = new Vec();
     this.scnUpVec.set(otherFrame.sceneUpVector());
     this.flyDisp = new Vec();
     this.flyDisp.set(otherFrame.flyDisp.get());
-    this.flyTimerTask = new TimingTask() {
-      public void execute() {
-        fly();
-      }
-    };
-    this.gScene.registerTimingTask(flyTimerTask);
     lastUpdate = otherFrame.lastUpdate();
     // end
     // this.isInCamPath = otherFrame.isInCamPath;
@@ -569,6 +570,14 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
     this.pkgnPrecision = otherFrame.pkgnPrecision;
     this.grabsInputThreshold = otherFrame.grabsInputThreshold;
 
+    if (otherFrame.bndCenter != null)
+      this.bndCenter = otherFrame.bndCenter.get();
+    if (otherFrame.bndMin != null) {
+      this.bndMin = otherFrame.bndMin.get();
+      this.bndMax = otherFrame.bndMax.get();
+    }
+    this.bndRadius = otherFrame.bndRadius;
+
     this.setRotationSensitivity(otherFrame.rotationSensitivity());
     this.setScalingSensitivity(otherFrame.scalingSensitivity());
     this.setTranslationSensitivity(otherFrame.translationSensitivity());
@@ -668,6 +677,9 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
       return false;
     if (hasChild(frame))
       return false;
+    invalidateSubtreeBounds();
+    boundsModified(true);
+    treeModified();
     return children().add(frame);
   }
 
@@ -684,6 +696,11 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
         break;
       }
     }
+    if (result) {
+      invalidateSubtreeBounds();
+      boundsModified(true);
+      treeModified();
+    }
     return result;
   }
 
@@ -708,6 +725,23 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
       visit();
   }
 
+  /**
+   * Procedure called by the scene frame traversal algorithm once all the frame
+   * {@link #children()} have been visited, and before the frame transformation is
+   * undone. Default implementation is empty, i.e., it is meant to be implemented by
+   * derived classes.
+   *
+   * @see #visit()
+   * @see remixlab.dandelion.core.AbstractScene#traverseTree()
+   */
+  protected void postVisit() {
+  }
+
+  public void postVisitCallback() {
+    if (isVisitEnabled())
+      postVisit();
+  }
+
   /**
    * Enables {@link #visit()} of this frame when performing the
    * {@link remixlab.dandelion.core.AbstractScene#traverseTree()}.
@@ -958,6 +992,236 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
   protected void performInteraction(KeyboardEvent event) {
   }
 
+  // BOUNDING VOLUMES
+
+  /**
+   * Sets the frame bounding ball, defined by its {@code center} and {@code radius} in the
+   * frame (local) coordinate system. It should enclose everything the frame draws in
+   * {@link #visit()}, since the
+   * {@link remixlab.dandelion.core.AbstractScene#traverseTree()} may skip the frame (and
+   * its descendants) when it lies outside the eye boundary (see
+   * {@link remixlab.dandelion.core.AbstractScene#isFrustumCullingEnabled()}).
+   *
+   * @see #setBoundingBox(Vec, Vec)
+   * @see #resetBounds()
+   */
+  public void setBoundingBall(Vec center, float radius) {
+    bndCenter = center.get();
+    boolean structure = !hasBounds();
+    bndRadius = Math.abs(radius);
+    bndMin = bndMax = null;
+    invalidateSubtreeBounds();
+    boundsModified(structure);
+  }
+
+  /**
+   * Sets the frame bounding box, defined by two opposite {@code corner}s in the frame
+   * (local) coordinate system.
+   *
+   * @see #setBoundingBall(Vec, float)
+   * @see #resetBounds()
+   */
+  public void setBoundingBox(Vec corner1, Vec corner2) {
+    bndMin = new Vec(Math.min(corner1.x(), corner2.x()), Math.min(corner1.y(), corner2.y()),
+        Math.min(corner1.z(), corner2.z()));
+    bndMax = new Vec(Math.max(corner1.x(), corner2.x()), Math.max(corner1.y(), corner2.y()),
+        Math.max(corner1.z(), corner2.z()));
+    bndCenter = Vec.multiply(Vec.add(bndMin, bndMax), 0.5f);
+    boolean structure = !hasBounds();
+    bndRadius = Vec.distance(bndMin, bndMax) / 2;
+    invalidateSubtreeBounds();
+    boundsModified(structure);
+  }
+
+  /**
+   * Removes the frame bounds, so that it will never be culled.
+   *
+   * @see #hasBounds()
+   */
+  public void resetBounds() {
+    boolean structure = hasBounds();
+    bndCenter = bndMin = bndMax = null;
+    bndRadius = -1;
+    invalidateSubtreeBounds();
+    boundsModified(structure);
+  }
+
+  /**
+   * Returns {@code true} if the frame has a bounding ball or a bounding box.
+   *
+   * @see #setBoundingBall(Vec, float)
+   * @see #setBoundingBox(Vec, Vec)
+   */
+  public boolean hasBounds() {
+    return bndRadius >= 0;
+  }
+
+  /**
+   * Returns {@code true} if all the frames in the frame branch (i.e., the frame and its
+   * descendants) have bounds.
+   *
+   * @see #subtreeBallCenter()
+   * @see #subtreeBallRadius()
+   */
+  public boolean isSubtreeBounded() {
+    return updateSubtreeBounds();
+  }
+
+  /**
+   * Returns the center (in the world coordinate system) of a ball enclosing the bounds of
+   * all the frames in the frame branch. Only meaningful when {@link #isSubtreeBounded()}.
+   */
+  public Vec subtreeBallCenter() {
+    updateSubtreeBounds();
+    return subtreeCenter.get();
+  }
+
+  /**
+   * Returns the (world) radius of a ball enclosing the bounds of all the frames in the
+   * frame branch. Only meaningful when {@link #isSubtreeBounded()}.
+   */
+  public float subtreeBallRadius() {
+    updateSubtreeBounds();
+    return subtreeRadius;
+  }
+
+  /**
+   * Returns the visibility of the frame bounds found by the last
+   * {@link remixlab.dandelion.core.AbstractScene#traverseTree()} that reached the frame.
+   * Frames without bounds or not tested are reported as
+   * {@link remixlab.dandelion.core.Eye.Visibility#VISIBLE}.
+   */
+  public Eye.Visibility visibility() {
+    return visibility;
+  }
+
+  /**
+   * Returns the visibility of the frame own bounds (i.e., without considering its
+   * descendants) with respect to the given {@code eye}. Frames without bounds are
+   * reported as {@link remixlab.dandelion.core.Eye.Visibility#VISIBLE}.
+   */
+  public Eye.Visibility boundsVisibility(Eye eye) {
+    if (!hasBounds())
+      return Eye.Visibility.VISIBLE;
+    if (bndMin == null)
+      return eye.ballVisibility(inverseCoordinatesOf(bndCenter), bndRadius * magnitude());
+    Vec min = new Vec(), max = new Vec();
+    worldBounds(min, max);
+    return eye.boxVisibility(min, max);
+  }
+
+  /**
+   * Fills {@code min} and {@code max} with the corners of the world axis aligned box
+   * enclosing the frame bounds. Returns {@code false} (and does nothing) if the frame
+   * has no bounds.
+   */
+  public boolean worldBounds(Vec min, Vec max) {
+    if (!hasBounds())
+      return false;
+    if (bndMin == null) {
+      Vec center = inverseCoordinatesOf(bndCenter);
+      float radius = bndRadius * magnitude();
+      min.set(center.x() - radius, center.y() - radius, center.z() - radius);
+      max.set(center.x() + radius, center.y() + radius, center.z() + radius);
+      return true;
+    }
+    // box enclosing the eight (world) box corners
+    for (int c = 0; c < 8; ++c) {
+      Vec corner = inverseCoordinatesOf(new Vec(((c & 4) != 0) ? bndMin.x() : bndMax.x(),
+          ((c & 2) != 0) ? bndMin.y() : bndMax.y(), ((c & 1) != 0) ? bndMin.z() : bndMax.z()));
+      if (c == 0) {
+        min.set(corner);
+        max.set(corner);
+      } else {
+        min.set(Math.min(min.x(), corner.x()), Math.min(min.y(), corner.y()), Math.min(min.z(), corner.z()));
+        max.set(Math.max(max.x(), corner.x()), Math.max(max.y(), corner.y()), Math.max(max.z(), corner.z()));
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Notifies the scene {@link remixlab.dandelion.core.FrameBVH} (if any) that the frame
+   * world bounds have changed. When {@code structure} is {@code true} the frame has
+   * gained or lost its bounds.
+   */
+  protected void boundsModified(boolean structure) {
+    if (gScene == null || gScene.bvh == null)
+      return;
+    if (structure)
+      gScene.bvh.invalidate();
+    else if (bvhLeaf >= 0)
+      gScene.bvh.invalidate(this);
+  }
+
+  /**
+   * Notifies the scene {@link remixlab.dandelion.core.TransformStore} (if any) that the
+   * frame children have changed.
+   */
+  protected void treeModified() {
+    if (gScene != null && gScene.store != null)
+      gScene.store.invalidate();
+  }
+
+  /**
+   * Marks the bounds of the frame branch, and of all its ancestors branches, as outdated.
+   */
+  protected void invalidateSubtreeBounds() {
+    // when a frame is outdated so are all its ancestors, so we may stop at the first one
+    for (GenericFrame frame = this; frame != null && !frame.subtreeDirty; frame = frame.referenceFrame())
+      frame.subtreeDirty = true;
+  }
+
+  /**
+   * Updates (only if outdated) the world bounding ball of the frame branch, and returns
+   * {@link #isSubtreeBounded()}.
+   */
+  protected boolean updateSubtreeBounds() {
+    if (!subtreeDirty)
+      return subtreeBounded;
+    (gScene != null ? gScene.boundsTraversal : new SubtreeBoundsTraversal()).traverse(this);
+    return subtreeBounded;
+  }
+
+  /**
+   * Computes the world bounding ball of the frame branch from those of its children
+   * branches, which should be up to date.
+   */
+  protected void updateSubtreeBall() {
+    subtreeDirty = false;
+    subtreeSize = 1;
+    boolean bounded = hasBounds();
+    if (bounded) {
+      subtreeCenter = inverseCoordinatesOf(bndCenter);
+      subtreeRadius = bndRadius * magnitude();
+    }
+    for (GenericFrame child : children()) {
+      subtreeSize += child.subtreeSize;
+      if (!child.subtreeBounded)
+        bounded = false;
+      else if (bounded)
+        enclose(child.subtreeCenter, child.subtreeRadius);
+    }
+    subtreeBounded = bounded;
+  }
+
+  /**
+   * Grows the subtree bounding ball to enclose the given ball.
+   */
+  protected void enclose(Vec center, float radius) {
+    float distance = Vec.distance(subtreeCenter, center);
+    if (distance + radius <= subtreeRadius)
+      return;
+    if (distance + subtreeRadius <= radius) {
+      subtreeCenter.set(center);
+      subtreeRadius = radius;
+      return;
+    }
+    float r = (distance + subtreeRadius + radius) / 2;
+    subtreeCenter.add(Vec.multiply(Vec.subtract(center, subtreeCenter), (r - subtreeRadius) / distance));
+    subtreeRadius = r;
+  }
+
   // APPLY TRANSFORMATION
 
   /**
@@ -1015,10 +1279,20 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
 
   /**
    * Internal use. Automatically call by all methods which change the Frame state.
+   * <p>
+   * Besides invalidating the frame world transformation cache and the branch bounds (see
+   * {@link #subtreeBallRadius()}), the invalidation is cascaded down to all the frame
+   * {@link #children()}.
    */
   @Override
   protected void modified() {
+    super.modified();
     lastUpdate = AbstractScene.frameCount;
+    invalidateSubtreeBounds();
+    if (bvhLeaf >= 0)
+      boundsModified(false);
+    if (storeIndex >= 0 && gScene != null && gScene.store != null)
+      gScene.store.invalidate(this);
     if (children() != null)
       for (GenericFrame child : children())
         child.modified();
@@ -1276,7 +1550,7 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
    * @see #isFlying()
    */
   public final boolean isSpinning() {
-    return spinningTimerTask.isActive();
+    return spinSlot >= 0;
   }
 
   /**
@@ -1319,7 +1593,7 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
    * @see #damping()
    */
   public final void stopSpinning() {
-    spinningTimerTask.stop();
+    gScene.motionIntegrator().stopSpinning(this);
   }
 
   /**
@@ -1335,8 +1609,9 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
   /**
    * Starts the spinning of the generic-frame.
    * <p>
-   * This method starts a timer that will call {@link #spin()} every
-   * {@code updateInterval} milliseconds. The generic-frame {@link #isSpinning()} until
+   * This method adds the generic-frame to the scene
+   * {@link remixlab.dandelion.core.AbstractScene#motionIntegrator()}, which will call
+   * {@link #spin()} every {@code updateInterval} milliseconds. The generic-frame {@link #isSpinning()} until
    * you call {@link #stopSpinning()}.
    * <p>
    * <b>Attention: </b>Spinning may be decelerated according to {@link #damping()} till it
@@ -1353,7 +1628,7 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
       return;
     int updateInterval = (int) delay;
     if (updateInterval > 0)
-      spinningTimerTask.run(updateInterval);
+      gScene.motionIntegrator().startSpinning(this, updateInterval);
   }
 
   /**
@@ -2735,7 +3010,7 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
    * {@link #isSpinning()}
    */
   public final boolean isFlying() {
-    return flyTimerTask.isActive();
+    return flySlot >= 0;
   }
 
   /**
@@ -2749,7 +3024,7 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
    * @see #spin()
    */
   public final void stopFlying() {
-    flyTimerTask.stop();
+    gScene.motionIntegrator().stopFlying(this);
   }
 
   /**
@@ -2790,8 +3065,9 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
   /**
    * Starts the tossing of the generic-frame.
    * <p>
-   * This method starts a timer that will call {@link #damping()} every FLY_UPDATE_PERDIOD
-   * milliseconds. The generic-frame {@link #isFlying()} until you call
+   * This method adds the generic-frame to the scene
+   * {@link remixlab.dandelion.core.AbstractScene#motionIntegrator()}, which will call
+   * {@link #fly()} every FLY_UPDATE_PERDIOD milliseconds. The generic-frame {@link #isFlying()} until you call
    * {@link #stopFlying()}.
    * <p>
    * <b>Attention: </b>Tossing may be decelerated according to {@link #damping()} till it
@@ -2805,7 +3081,7 @@ public class GenericFrame extends Frame implements Grabber, Trackable {
   public void startFlying(Vec direction, float speed) {
     eventSpeed = speed;
     setFlyDirection(direction);
-    flyTimerTask.run(FLY_UPDATE_PERDIOD);
+    gScene.motionIntegrator().startFlying(this, FLY_UPDATE_PERDIOD);
   }
 
   /**
@@ -15,18 +15,133 @@ import remixlab.dandelion.geom.Mat;
 /**
  * Complete implementation of {@link remixlab.dandelion.core.MatrixHelper} which attaches
  * to it a projection matrix stack and a modelview matrix stack.
+ * <p>
+ * Both stacks are contiguous float arrays which grow as needed, so that hierarchies of
+ * any depth may be traversed, and pushing and popping a matrix doesn't allocate. When
+ * {@link #isDeltaPushEnabled()}, modelview pushes don't copy the matrix, but only record
+ * the rigid transformations (and scalings) applied to it afterwards, which are undone
+ * when the modelview is popped.
  */
 public class MatrixStackHelper extends MatrixHelper {
-  private static final int MATRIX_STACK_DEPTH = 32;
-
-  private static final String ERROR_PUSHMATRIX_OVERFLOW = "Too many calls to pushModelView().";
   private static final String ERROR_PUSHMATRIX_UNDERFLOW = "Too many calls to popModelView(), and not enough to pushModelView().";
+  private static final String ERROR_PUSHPROJECTION_UNDERFLOW = "Too many calls to popProjection(), and not enough to pushProjection().";
+
+  // delta records: an op code followed by (up to) four arguments
+  static final int TRANSLATE = 0, ROTATE_X = 1, ROTATE_Y = 2, ROTATE_Z = 3, ROTATE = 4, SCALE = 5;
+  static final int RECORD_SIZE = 5;
+
+  /**
+   * Contiguous growable matrix stack. Each level holds either a copy of the pushed matrix
+   * (16 floats) or, for delta levels, the records of the transformations applied to it
+   * since it was pushed.
+   */
+  static class Stack {
+    float[] data = new float[16 * 32];
+    int size;
+    // start of each level in data, and whether or not it's a delta level
+    int[] start = new int[32];
+    boolean[] delta = new boolean[32];
+    int depth;
+
+    void ensure(int floats) {
+      if (size + floats > data.length) {
+        float[] grown = new float[Math.max(2 * data.length, size + floats)];
+        System.arraycopy(data, 0, grown, 0, size);
+        data = grown;
+      }
+    }
+
+    void level(boolean isDelta) {
+      if (depth == start.length) {
+        int[] grownStart = new int[2 * depth];
+        boolean[] grownDelta = new boolean[2 * depth];
+        System.arraycopy(start, 0, grownStart, 0, depth);
+        System.arraycopy(delta, 0, grownDelta, 0, depth);
+        start = grownStart;
+        delta = grownDelta;
+      }
+      start[depth] = size;
+      delta[depth] = isDelta;
+      depth++;
+    }
+
+    void push(Mat matrix) {
+      level(false);
+      ensure(16);
+      System.arraycopy(matrix.mat, 0, data, size, 16);
+      size += 16;
+    }
 
-  float[][] matrixStack = new float[MATRIX_STACK_DEPTH][16];
-  int matrixStackDepth;
+    void mark() {
+      level(true);
+    }
 
-  float[][] pmatrixStack = new float[MATRIX_STACK_DEPTH][16];
-  int pmatrixStackDepth;
+    boolean isDelta() {
+      return depth > 0 && delta[depth - 1];
+    }
+
+    void record(int op, float a, float b, float c, float d) {
+      ensure(RECORD_SIZE);
+      data[size] = op;
+      data[size + 1] = a;
+      data[size + 2] = b;
+      data[size + 3] = c;
+      data[size + 4] = d;
+      size += RECORD_SIZE;
+    }
+
+    // undoes (on matrix) the records of the top level, from the last one to the first
+    void undo(Mat matrix) {
+      for (int i = size - RECORD_SIZE; i >= start[depth - 1]; i -= RECORD_SIZE) {
+        float a = data[i + 1], b = data[i + 2], c = data[i + 3], d = data[i + 4];
+        switch ((int) data[i]) {
+          case TRANSLATE:
+            matrix.translate(-a, -b, -c);
+            break;
+          case ROTATE_X:
+            matrix.rotateX(-a);
+            break;
+          case ROTATE_Y:
+            matrix.rotateY(-a);
+            break;
+          case ROTATE_Z:
+            matrix.rotateZ(-a);
+            break;
+          case ROTATE:
+            matrix.rotate(-a, b, c, d);
+            break;
+          case SCALE:
+            matrix.scale(1 / a, 1 / b, 1 / c);
+            break;
+        }
+      }
+    }
+
+    // turns the top delta level into a copy of the matrix it had when pushed
+    void materialize(Mat matrix, Mat scratch) {
+      scratch.set(matrix);
+      undo(scratch);
+      size = start[depth - 1];
+      delta[depth - 1] = false;
+      ensure(16);
+      System.arraycopy(scratch.mat, 0, data, size, 16);
+      size += 16;
+    }
+
+    void pop(Mat matrix) {
+      if (delta[depth - 1])
+        undo(matrix);
+      else
+        System.arraycopy(data, start[depth - 1], matrix.mat, 0, 16);
+      size = start[depth - 1];
+      depth--;
+    }
+  }
+
+  Stack matrixStack = new Stack();
+  Stack pmatrixStack = new Stack();
+  boolean deltaPush;
+  Mat scratch = new Mat();
 
   Mat projection, modelview;
 
@@ -36,26 +151,105 @@ public class MatrixStackHelper extends MatrixHelper {
     projection = new Mat();
   }
 
+  /**
+   * Returns {@code true} if modelview pushes only record the transformations applied to
+   * the modelview afterwards (instead of copying it), and pops undo them. Disabled by
+   * default.
+   * <p>
+   * It trades the matrix copy of each push, and most of the stack memory, for the undo
+   * work of each pop. Since undoing a transformation is subject to rounding, popped
+   * matrices may slightly drift from the pushed ones. Calls to
+   * {@link #applyModelView(Mat)}, {@link #setModelView(Mat)}, {@link #resetModelView()}
+   * and singular scalings, which can't be undone, make the stack copy the pushed matrix
+   * first, as if this mode was disabled.
+   *
+   * @see #enableDeltaPush()
+   * @see #disableDeltaPush()
+   * @see #toggleDeltaPush()
+   */
+  public boolean isDeltaPushEnabled() {
+    return deltaPush;
+  }
+
+  /**
+   * Toggles the delta push mode.
+   *
+   * @see #isDeltaPushEnabled()
+   */
+  public void toggleDeltaPush() {
+    enableDeltaPush(!isDeltaPushEnabled());
+  }
+
+  /**
+   * Disables the delta push mode.
+   *
+   * @see #isDeltaPushEnabled()
+   */
+  public void disableDeltaPush() {
+    enableDeltaPush(false);
+  }
+
+  /**
+   * Enables the delta push mode.
+   *
+   * @see #isDeltaPushEnabled()
+   */
+  public void enableDeltaPush() {
+    enableDeltaPush(true);
+  }
+
+  /**
+   * Enables or disables the delta push mode according to {@code flag}. It only affects
+   * the subsequent pushes.
+   *
+   * @see #isDeltaPushEnabled()
+   */
+  public void enableDeltaPush(boolean flag) {
+    deltaPush = flag;
+  }
+
+  /**
+   * Returns the number of matrices currently pushed onto the modelview stack.
+   */
+  public int modelViewStackDepth() {
+    return matrixStack.depth;
+  }
+
+  /**
+   * Returns the number of matrices currently pushed onto the projection stack.
+   */
+  public int projectionStackDepth() {
+    return pmatrixStack.depth;
+  }
+
   @Override
   public void pushModelView() {
-    if (matrixStackDepth == MATRIX_STACK_DEPTH) {
-      throw new RuntimeException(ERROR_PUSHMATRIX_OVERFLOW);
-    }
-    modelview.get(matrixStack[matrixStackDepth]);
-    matrixStackDepth++;
+    if (deltaPush)
+      matrixStack.mark();
+    else
+      matrixStack.push(modelview);
   }
 
   @Override
   public void popModelView() {
-    if (matrixStackDepth == 0) {
+    if (matrixStack.depth == 0) {
       throw new RuntimeException(ERROR_PUSHMATRIX_UNDERFLOW);
     }
-    matrixStackDepth--;
-    modelview.set(matrixStack[matrixStackDepth]);
+    matrixStack.pop(modelview);
+  }
+
+  /**
+   * Makes the top modelview stack level (if it's a delta one) hold a copy of the pushed
+   * matrix, before a transformation which can't be undone is applied.
+   */
+  protected void materialize() {
+    if (matrixStack.isDelta())
+      matrixStack.materialize(modelview, scratch);
   }
 
   @Override
   public void resetModelView() {
+    materialize();
     modelview.reset();
   }
 
@@ -85,6 +279,7 @@ public class MatrixStackHelper extends MatrixHelper {
 
   @Override
   public void applyModelView(Mat source) {
+    materialize();
     modelview.apply(source);
   }
 
@@ -95,6 +290,8 @@ public class MatrixStackHelper extends MatrixHelper {
 
   @Override
   public void translate(float tx, float ty, float tz) {
+    if (matrixStack.isDelta())
+      matrixStack.record(TRANSLATE, tx, ty, tz, 0);
     modelview.translate(tx, ty, tz);
   }
 
@@ -105,21 +302,29 @@ public class MatrixStackHelper extends MatrixHelper {
 
   @Override
   public void rotateX(float angle) {
+    if (matrixStack.isDelta())
+      matrixStack.record(ROTATE_X, angle, 0, 0, 0);
     modelview.rotateX(angle);
   }
 
   @Override
   public void rotateY(float angle) {
+    if (matrixStack.isDelta())
+      matrixStack.record(ROTATE_Y, angle, 0, 0, 0);
     modelview.rotateY(angle);
   }
 
   @Override
   public void rotateZ(float angle) {
+    if (matrixStack.isDelta())
+      matrixStack.record(ROTATE_Z, angle, 0, 0, 0);
     modelview.rotateZ(angle);
   }
 
   @Override
   public void rotate(float angle, float v0, float v1, float v2) {
+    if (matrixStack.isDelta())
+      matrixStack.record(ROTATE, angle, v0, v1, v2);
     modelview.rotate(angle, v0, v1, v2);
   }
 
@@ -135,25 +340,26 @@ public class MatrixStackHelper extends MatrixHelper {
 
   @Override
   public void scale(float x, float y, float z) {
+    if (matrixStack.isDelta()) {
+      if (x == 0 || y == 0 || z == 0)
+        materialize();
+      else
+        matrixStack.record(SCALE, x, y, z, 0);
+    }
     modelview.scale(x, y, z);
   }
 
   @Override
   public void pushProjection() {
-    if (pmatrixStackDepth == MATRIX_STACK_DEPTH) {
-      throw new RuntimeException(ERROR_PUSHMATRIX_OVERFLOW);
-    }
-    projection.get(pmatrixStack[pmatrixStackDepth]);
-    pmatrixStackDepth++;
+    pmatrixStack.push(projection);
   }
 
   @Override
   public void popProjection() {
-    if (pmatrixStackDepth == 0) {
-      throw new RuntimeException(ERROR_PUSHMATRIX_UNDERFLOW);
+    if (pmatrixStack.depth == 0) {
+      throw new RuntimeException(ERROR_PUSHPROJECTION_UNDERFLOW);
     }
-    pmatrixStackDepth--;
-    projection.set(pmatrixStack[pmatrixStackDepth]);
+    pmatrixStack.pop(projection);
   }
 
   @Override
@@ -0,0 +1,204 @@
+/**************************************************************************************
+ * dandelion_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.dandelion.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scene-level integrator of the {@link remixlab.dandelion.core.GenericFrame} spinning and
+ * flying motions.
+ * <p>
+ * Only the frames that are currently {@link remixlab.dandelion.core.GenericFrame#isSpinning()}
+ * or {@link remixlab.dandelion.core.GenericFrame#isFlying()} are kept by the integrator
+ * (in two separate active sets), so idle frames cost nothing per frame. All active frames
+ * are advanced in a single batched pass ({@link #handle()}) which is called by
+ * {@link remixlab.dandelion.core.AbstractScene#postDraw()}.
+ * <p>
+ * Each active motion is stepped according to its own period (in milliseconds), using the
+ * same policy as {@link remixlab.fpstiming.SeqTimer}: a step is performed at the drawn
+ * frame which is nearest to its due time, according to the scene frame rate.
+ */
+public class MotionIntegrator {
+  protected AbstractScene scene;
+  protected Track spinning, flying;
+
+  /**
+   * Active set of motions of the same kind. The slot of each frame is kept in the frame
+   * itself so that insertion, removal and membership queries are O(1).
+   */
+  protected class Track {
+    protected boolean spin;
+    protected ArrayList<GenericFrame> frames = new ArrayList<GenericFrame>();
+    protected long[] period = new long[16];
+    protected long[] due = new long[16];
+
+    protected Track(boolean s) {
+      spin = s;
+    }
+
+    protected int slot(GenericFrame frame) {
+      return spin ? frame.spinSlot : frame.flySlot;
+    }
+
+    protected void setSlot(GenericFrame frame, int slot) {
+      if (spin)
+        frame.spinSlot = slot;
+      else
+        frame.flySlot = slot;
+    }
+
+    protected void add(GenericFrame frame, long prd) {
+      int slot = slot(frame);
+      if (slot < 0) {
+        slot = frames.size();
+        if (slot == period.length) {
+          long[] p = new long[slot * 2];
+          long[] d = new long[slot * 2];
+          System.arraycopy(period, 0, p, 0, slot);
+          System.arraycopy(due, 0, d, 0, slot);
+          period = p;
+          due = d;
+        }
+        frames.add(frame);
+        setSlot(frame, slot);
+      }
+      period[slot] = prd;
+      due[slot] = System.currentTimeMillis() + prd;
+    }
+
+    protected void remove(GenericFrame frame) {
+      int slot = slot(frame);
+      if (slot < 0)
+        return;
+      int last = frames.size() - 1;
+      if (slot != last) {
+        GenericFrame moved = frames.get(last);
+        frames.set(slot, moved);
+        period[slot] = period[last];
+        due[slot] = due[last];
+        setSlot(moved, slot);
+      }
+      frames.remove(last);
+      setSlot(frame, -1);
+    }
+
+    protected void step(long now, long halfFrame) {
+      // backwards, so that swap-removals performed by the callbacks (e.g., when the
+      // motion is damped till it stops) don't skip any frame
+      for (int i = frames.size() - 1; i >= 0; i--) {
+        if (i >= frames.size())
+          continue;
+        if (now + halfFrame < due[i])
+          continue;
+        due[i] += period[i];
+        if (due[i] <= now)
+          due[i] = now + period[i];
+        GenericFrame frame = frames.get(i);
+        if (spin)
+          frame.spinExecution();
+        else
+          frame.fly();
+      }
+    }
+  }
+
+  /**
+   * Constructs the integrator of the given scene.
+   */
+  public MotionIntegrator(AbstractScene scn) {
+    scene = scn;
+    spinning = new Track(true);
+    flying = new Track(false);
+  }
+
+  /**
+   * Returns the scene this integrator belongs to.
+   */
+  public AbstractScene scene() {
+    return scene;
+  }
+
+  /**
+   * Advances all the active (spinning and flying) frames. Called by
+   * {@link remixlab.dandelion.core.AbstractScene#postDraw()}.
+   */
+  public void handle() {
+    if (spinning.frames.isEmpty() && flying.frames.isEmpty())
+      return;
+    long now = System.currentTimeMillis();
+    long halfFrame = (long) (500 / scene.timingHandler().frameRate());
+    spinning.step(now, halfFrame);
+    flying.step(now, halfFrame);
+  }
+
+  /**
+   * Adds the frame to the spinning set, so that its
+   * {@link remixlab.dandelion.core.GenericFrame#spinExecution()} is called every
+   * {@code period} milliseconds.
+   */
+  public void startSpinning(GenericFrame frame, long period) {
+    if (period > 0)
+      spinning.add(frame, period);
+  }
+
+  /**
+   * Removes the frame from the spinning set.
+   */
+  public void stopSpinning(GenericFrame frame) {
+    spinning.remove(frame);
+  }
+
+  /**
+   * Returns {@code true} if the frame is in the spinning set.
+   */
+  public boolean isSpinning(GenericFrame frame) {
+    return frame.spinSlot >= 0;
+  }
+
+  /**
+   * Adds the frame to the flying set, so that its
+   * {@link remixlab.dandelion.core.GenericFrame#fly()} is called every {@code period}
+   * milliseconds.
+   */
+  public void startFlying(GenericFrame frame, long period) {
+    if (period > 0)
+      flying.add(frame, period);
+  }
+
+  /**
+   * Removes the frame from the flying set.
+   */
+  public void stopFlying(GenericFrame frame) {
+    flying.remove(frame);
+  }
+
+  /**
+   * Returns {@code true} if the frame is in the flying set.
+   */
+  public boolean isFlying(GenericFrame frame) {
+    return frame.flySlot >= 0;
+  }
+
+  /**
+   * Returns the frames that are currently spinning. Don't modify it.
+   */
+  public List<GenericFrame> spinningFrames() {
+    return spinning.frames;
+  }
+
+  /**
+   * Returns the frames that are currently flying. Don't modify it.
+   */
+  public List<GenericFrame> flyingFrames() {
+    return flying.frames;
+  }
+}
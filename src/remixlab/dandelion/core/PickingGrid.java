@@ -0,0 +1,272 @@
+/**************************************************************************************
+ * dandelion_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.dandelion.core;
+
+import remixlab.bias.core.Agent;
+import remixlab.bias.core.BogusEvent;
+import remixlab.bias.core.Grabber;
+import remixlab.bias.core.GrabberIndex;
+import remixlab.bias.event.*;
+import remixlab.dandelion.geom.Vec;
+
+import java.util.List;
+
+/**
+ * Screen-space uniform grid {@link remixlab.bias.core.GrabberIndex} of the
+ * {@link remixlab.dandelion.core.GenericFrame}s handled by an agent.
+ * <p>
+ * The screen rectangle in which each frame may be picked (i.e., its projected
+ * {@link remixlab.dandelion.core.GenericFrame#position()} enlarged by half its
+ * {@link remixlab.dandelion.core.GenericFrame#grabsInputThreshold()}) is binned into the
+ * grid cells it overlaps, so that picking a (relative) motion or click event only queries
+ * the frames binned at the event cell. Set it with
+ * {@link remixlab.bias.core.Agent#setGrabberIndex(GrabberIndex)}.
+ * <p>
+ * The grid is lazily updated (at most once per drawn frame) when it's queried: it is
+ * rebuilt when the {@link remixlab.dandelion.core.AbstractScene#eye()} or the screen
+ * size changes, and otherwise only the frames which were modified since the last update
+ * (see {@link remixlab.dandelion.core.GenericFrame#lastUpdate()}) are re-binned. Call
+ * {@link #invalidate()} after changing the
+ * {@link remixlab.dandelion.core.GenericFrame#grabsInputThreshold()} or the
+ * {@link remixlab.dandelion.core.GenericFrame#pickingPrecision()} of a frame.
+ * <p>
+ * Only the frames picked according to their projected position are binned (see
+ * {@link #isIndexable(Grabber)}). Other grabbers, such as frames having an
+ * {@link remixlab.dandelion.core.GenericFrame.PickingPrecision#EXACT} picking precision,
+ * are always reported as candidates.
+ */
+public class PickingGrid implements GrabberIndex {
+  protected AbstractScene scene;
+  protected int cellSize;
+  protected int cols, rows, width, height;
+  // grabber indices (in the agent grabbers() order) binned at each cell
+  protected int[][] cells;
+  protected int[] cellCount;
+  // grabber indices which are not binned, but always reported as candidates
+  protected int[] always = new int[16];
+  protected int alwaysCount;
+  // binned cell rectangle of each grabber (x0 < 0 when it is not binned)
+  protected int[] x0 = new int[16], y0 = new int[16], x1 = new int[16], y1 = new int[16];
+  protected int size;
+  protected boolean valid;
+  protected long update = -1;
+
+  /**
+   * Same as {@code this(scn, 32)}.
+   */
+  public PickingGrid(AbstractScene scn) {
+    this(scn, 32);
+  }
+
+  /**
+   * Constructs a grid of {@code cell} pixels wide square cells for the given scene.
+   */
+  public PickingGrid(AbstractScene scn, int cell) {
+    scene = scn;
+    cellSize = Math.max(1, cell);
+  }
+
+  /**
+   * Returns the scene this grid belongs to.
+   */
+  public AbstractScene scene() {
+    return scene;
+  }
+
+  /**
+   * Returns the size of the grid cells (in pixels).
+   */
+  public int cellSize() {
+    return cellSize;
+  }
+
+  @Override
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Returns {@code true} if the grabber is picked only according to its projected
+   * position, i.e., if it's a non-eye {@link remixlab.dandelion.core.GenericFrame}
+   * which picking precision is not
+   * {@link remixlab.dandelion.core.GenericFrame.PickingPrecision#EXACT}. Override it to
+   * exclude grabbers implementing a custom picking condition.
+   */
+  protected boolean isIndexable(Grabber grabber) {
+    if (!(grabber instanceof GenericFrame))
+      return false;
+    GenericFrame frame = (GenericFrame) grabber;
+    return !frame.isEyeFrame() && frame.pickingPrecision() != GenericFrame.PickingPrecision.EXACT;
+  }
+
+  @Override
+  public boolean candidates(Agent agent, BogusEvent event, List<Grabber> candidates) {
+    float x, y;
+    if (event instanceof ClickEvent) {
+      x = ((ClickEvent) event).x();
+      y = ((ClickEvent) event).y();
+    } else if (event instanceof MotionEvent && ((MotionEvent) event).isRelative()) {
+      if (event instanceof DOF2Event) {
+        x = ((DOF2Event) event).x();
+        y = ((DOF2Event) event).y();
+      } else if (event instanceof DOF3Event) {
+        x = ((DOF3Event) event).x();
+        y = ((DOF3Event) event).y();
+      } else if (event instanceof DOF6Event) {
+        x = ((DOF6Event) event).x();
+        y = ((DOF6Event) event).y();
+      } else
+        return false;
+    } else
+      return false;
+    if (!(x >= 0 && x < scene.width() && y >= 0 && y < scene.height()))
+      return false;
+    update(agent.grabbers());
+    int cell = cell(x, y);
+    int[] binned = cells[cell];
+    int count = cellCount[cell];
+    // merge both sorted index lists, so that candidates keep the grabbers() order
+    int i = 0, j = 0;
+    List<Grabber> grabbers = agent.grabbers();
+    while (i < count || j < alwaysCount) {
+      if (j == alwaysCount || (i < count && binned[i] < always[j]))
+        candidates.add(grabbers.get(binned[i++]));
+      else
+        candidates.add(grabbers.get(always[j++]));
+    }
+    return true;
+  }
+
+  protected int cell(float x, float y) {
+    return Math.min(rows - 1, (int) y / cellSize) * cols + Math.min(cols - 1, (int) x / cellSize);
+  }
+
+  /**
+   * Brings the grid up to date with the given grabbers list. Called by
+   * {@link #candidates(Agent, BogusEvent, List)}.
+   */
+  protected void update(List<Grabber> grabbers) {
+    long frame = AbstractScene.frameCount;
+    boolean resized = scene.width() != width || scene.height() != height;
+    if (valid && !resized && update == frame)
+      return;
+    if (!valid || resized || grabbers.size() != size || scene.eye().lastUpdate() >= update) {
+      rebuild(grabbers);
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      if (x0[i] < 0 && !isIndexable(grabbers.get(i)))
+        continue;
+      if (((GenericFrame) grabbers.get(i)).lastUpdate() >= update) {
+        unbin(i);
+        bin(i, (GenericFrame) grabbers.get(i));
+      }
+    }
+    update = frame;
+  }
+
+  protected void rebuild(List<Grabber> grabbers) {
+    width = scene.width();
+    height = scene.height();
+    int c = Math.max(1, (width + cellSize - 1) / cellSize);
+    int r = Math.max(1, (height + cellSize - 1) / cellSize);
+    if (cells == null || c != cols || r != rows) {
+      cols = c;
+      rows = r;
+      cells = new int[cols * rows][];
+      cellCount = new int[cols * rows];
+    } else
+      for (int i = 0; i < cellCount.length; i++)
+        cellCount[i] = 0;
+    size = grabbers.size();
+    if (size > x0.length) {
+      int length = Math.max(size, 2 * x0.length);
+      x0 = new int[length];
+      y0 = new int[length];
+      x1 = new int[length];
+      y1 = new int[length];
+    }
+    alwaysCount = 0;
+    for (int i = 0; i < size; i++) {
+      Grabber grabber = grabbers.get(i);
+      x0[i] = -1;
+      if (isIndexable(grabber))
+        bin(i, (GenericFrame) grabber);
+      else
+        always = append(always, alwaysCount++, i);
+    }
+    valid = true;
+    update = AbstractScene.frameCount;
+  }
+
+  protected void bin(int index, GenericFrame frame) {
+    x0[index] = -1;
+    Vec proj = scene.eye().projectedCoordinatesOf(frame.position());
+    float half = frame.grabsInputThreshold() / 2;
+    float left = proj.x() - half, right = proj.x() + half;
+    float top = proj.y() - half, bottom = proj.y() + half;
+    // comparisons also discard NaN projections, which can't be picked either
+    if (!(right > 0 && left < width && bottom > 0 && top < height))
+      return;
+    x0[index] = Math.max(0, (int) left / cellSize);
+    y0[index] = Math.max(0, (int) top / cellSize);
+    x1[index] = Math.min(cols - 1, (int) right / cellSize);
+    y1[index] = Math.min(rows - 1, (int) bottom / cellSize);
+    for (int row = y0[index]; row <= y1[index]; row++)
+      for (int col = x0[index]; col <= x1[index]; col++)
+        insert(row * cols + col, index);
+  }
+
+  protected void unbin(int index) {
+    if (x0[index] < 0)
+      return;
+    for (int row = y0[index]; row <= y1[index]; row++)
+      for (int col = x0[index]; col <= x1[index]; col++)
+        delete(row * cols + col, index);
+    x0[index] = -1;
+  }
+
+  // sorted insertion keeps the grabbers() order within each cell
+  protected void insert(int cell, int index) {
+    int count = cellCount[cell];
+    int[] binned = cells[cell] = append(cells[cell], count, index);
+    int i = count;
+    while (i > 0 && binned[i - 1] > index) {
+      binned[i] = binned[i - 1];
+      i--;
+    }
+    binned[i] = index;
+    cellCount[cell]++;
+  }
+
+  protected void delete(int cell, int index) {
+    int[] binned = cells[cell];
+    int count = cellCount[cell];
+    for (int i = 0; i < count; i++)
+      if (binned[i] == index) {
+        System.arraycopy(binned, i + 1, binned, i, count - i - 1);
+        cellCount[cell]--;
+        return;
+      }
+  }
+
+  protected static int[] append(int[] array, int count, int value) {
+    if (array == null)
+      array = new int[4];
+    else if (count == array.length) {
+      int[] grown = new int[2 * count];
+      System.arraycopy(array, 0, grown, 0, count);
+      array = grown;
+    }
+    array[count] = value;
+    return array;
+  }
+}
@@ -0,0 +1,341 @@
+/**************************************************************************************
+ * dandelion_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.dandelion.core;
+
+import remixlab.dandelion.geom.Mat;
+import remixlab.dandelion.geom.Quat;
+import remixlab.dandelion.geom.Rot;
+import remixlab.dandelion.geom.Rotation;
+import remixlab.dandelion.geom.Vec;
+
+import java.util.ArrayList;
+
+/**
+ * Structure-of-arrays mirror of the scene frame tree (see
+ * {@link remixlab.dandelion.core.AbstractScene#frames(boolean)}). Get it with
+ * {@link remixlab.dandelion.core.AbstractScene#transformStore()}.
+ * <p>
+ * The local translation, rotation (as a quaternion, even for 2D frames) and scaling of
+ * each reachable frame, its parent index and its world matrix (see
+ * {@link remixlab.dandelion.geom.Frame#worldMatrix()}) live in contiguous primitive
+ * arrays laid out in depth-first order, so that parents always come before their
+ * children and the frames of a branch are stored contiguously (see
+ * {@link #branchEnd(int)}). Frames are then thin handles into the store (see
+ * {@link #index(GenericFrame)}), and updating all the world matrices is a single linear
+ * sweep over the arrays.
+ * <p>
+ * The store is lazily brought up to date by {@link #update()}: its layout is rebuilt
+ * when frames are added to or removed from the scene tree, and otherwise only the local
+ * transformations of the frames that were modified since the last update are read back,
+ * and only their world matrices (and those of their descendants) are recomputed.
+ */
+public class TransformStore {
+  protected AbstractScene scene;
+  protected boolean valid;
+
+  protected GenericFrame[] frames = new GenericFrame[0];
+  protected int count;
+  // parent index (-1 for leading frames) and index past the frame branch
+  protected int[] parent = new int[0], end = new int[0];
+  // local transformations: translation (3), quaternion (4) and scaling (1) per frame
+  protected float[] trans = new float[0], rot = new float[0], scl = new float[0];
+  // world matrices (16 column-major floats per frame)
+  protected float[] world = new float[0];
+  protected boolean[] stale = new boolean[0];
+  // pass in which each world matrix was last recomputed (see sweep())
+  protected int[] swept = new int[0];
+  protected int pass;
+  protected int[] dirty = new int[16];
+  protected int dirtyCount;
+
+  /**
+   * Constructs the transform store of the given scene frames.
+   */
+  public TransformStore(AbstractScene scn) {
+    scene = scn;
+  }
+
+  /**
+   * Returns the scene this store belongs to.
+   */
+  public AbstractScene scene() {
+    return scene;
+  }
+
+  /**
+   * Returns the number of stored frames.
+   */
+  public int size() {
+    update();
+    return count;
+  }
+
+  /**
+   * Marks the whole store as outdated, so that its layout gets rebuilt at the next
+   * {@link #update()}. Automatically called when the scene frame tree changes.
+   */
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Marks the local transformation of the given frame as outdated, so that it gets read
+   * back at the next {@link #update()}. Automatically called when the frame is modified.
+   */
+  public void invalidate(GenericFrame frame) {
+    if (!valid)
+      return;
+    int i = frame.storeIndex;
+    if (i < 0 || i >= count || frames[i] != frame || stale[i])
+      return;
+    stale[i] = true;
+    if (dirtyCount == dirty.length) {
+      int[] grown = new int[2 * dirtyCount];
+      System.arraycopy(dirty, 0, grown, 0, dirtyCount);
+      dirty = grown;
+    }
+    dirty[dirtyCount++] = i;
+  }
+
+  /**
+   * Brings the store up to date, rebuilding its layout or sweeping the outdated world
+   * matrices as needed.
+   */
+  public void update() {
+    if (!valid)
+      rebuild();
+    else if (dirtyCount > 0) {
+      int first = count;
+      for (int i = 0; i < dirtyCount; i++) {
+        read(dirty[i]);
+        first = Math.min(first, dirty[i]);
+      }
+      dirtyCount = 0;
+      // nothing stored before the first modified frame is outdated
+      sweep(first, count);
+    }
+  }
+
+  /**
+   * Rebuilds the store layout from the scene frame tree, and computes all the world
+   * matrices.
+   */
+  public void rebuild() {
+    for (int i = 0; i < count; i++)
+      frames[i].storeIndex = -1;
+    ArrayList<GenericFrame> list = scene.frames(true);
+    count = list.size();
+    if (frames.length < count) {
+      int capacity = Math.max(count, 2 * frames.length);
+      frames = new GenericFrame[capacity];
+      parent = new int[capacity];
+      end = new int[capacity];
+      trans = new float[3 * capacity];
+      rot = new float[4 * capacity];
+      scl = new float[capacity];
+      world = new float[16 * capacity];
+      stale = new boolean[capacity];
+      swept = new int[capacity];
+    } else
+      for (int i = count; i < frames.length; i++)
+        frames[i] = null;
+    // scene.frames() is a depth-first (pre-order) listing of the tree
+    for (int i = 0; i < count; i++) {
+      GenericFrame frame = list.get(i);
+      frames[i] = frame;
+      frame.storeIndex = i;
+      GenericFrame ref = frame.referenceFrame();
+      parent[i] = ref == null ? -1 : ref.storeIndex;
+      end[i] = i + 1;
+      read(i);
+    }
+    // a branch ends where the first frame which isn't a descendant starts
+    for (int i = count - 1; i >= 0; i--)
+      if (parent[i] >= 0)
+        end[parent[i]] = Math.max(end[parent[i]], end[i]);
+    dirtyCount = 0;
+    valid = true;
+    sweep(0, count);
+  }
+
+  /**
+   * Reads back the local transformation of the {@code i}-th frame, and marks its world
+   * matrix as outdated.
+   */
+  protected void read(int i) {
+    GenericFrame frame = frames[i];
+    Vec t = frame.translation();
+    trans[3 * i] = t.vec[0];
+    trans[3 * i + 1] = t.vec[1];
+    trans[3 * i + 2] = t.vec[2];
+    Rotation r = frame.rotation();
+    if (r instanceof Quat)
+      System.arraycopy(((Quat) r).quat, 0, rot, 4 * i, 4);
+    else {
+      float half = ((Rot) r).angle() / 2;
+      rot[4 * i] = 0;
+      rot[4 * i + 1] = 0;
+      rot[4 * i + 2] = (float) Math.sin(half);
+      rot[4 * i + 3] = (float) Math.cos(half);
+    }
+    scl[i] = frame.scaling();
+    stale[i] = true;
+  }
+
+  /**
+   * Recomputes the outdated world matrices of the frames stored in {@code [from, to)},
+   * i.e., those of the frames which were read back (see {@link #read(int)}) and of their
+   * descendants. Called by {@link #update()} with {@code to} being {@link #size()}, and
+   * {@code from} the index of the first modified frame.
+   * <p>
+   * Derived classes may override this method to split the range among several threads.
+   * Each sweep should increment the {@code pass} counter, and then call
+   * {@link #sweepRange(int, int)} on ranges holding whole branches (see
+   * {@link #branchEnd(int)}), once the world matrices of the parents of their leading
+   * frames have been swept.
+   */
+  protected void sweep(int from, int to) {
+    pass++;
+    sweepRange(from, to);
+  }
+
+  /**
+   * Recomputes the outdated world matrices of the frames stored in {@code [from, to)}
+   * within the current sweep. Since parents are stored before their children,
+   * this is a single linear pass over the arrays.
+   */
+  protected void sweepRange(int from, int to) {
+    for (int i = from; i < to; i++) {
+      int p = parent[i];
+      if (stale[i] || (p >= 0 && swept[p] == pass)) {
+        stale[i] = false;
+        swept[i] = pass;
+        compose(i);
+      }
+    }
+  }
+
+  /**
+   * Computes the world matrix of the {@code i}-th frame as the world matrix of its parent
+   * times its local matrix (see {@link remixlab.dandelion.geom.Frame#matrix()}).
+   */
+  protected void compose(int i) {
+    float x = rot[4 * i], y = rot[4 * i + 1], z = rot[4 * i + 2], w = rot[4 * i + 3];
+    float s = scl[i];
+    // local matrix (column-major, same as Quat.matrix())
+    float l0 = (1 - 2 * (y * y + z * z)) * s, l1 = 2 * (x * y + z * w) * s, l2 = 2 * (x * z - y * w) * s;
+    float l4 = 2 * (x * y - z * w) * s, l5 = (1 - 2 * (z * z + x * x)) * s, l6 = 2 * (y * z + x * w) * s;
+    float l8 = 2 * (x * z + y * w) * s, l9 = 2 * (y * z - x * w) * s, l10 = (1 - 2 * (y * y + x * x)) * s;
+    float l12 = trans[3 * i], l13 = trans[3 * i + 1], l14 = trans[3 * i + 2];
+    int o = 16 * i;
+    int p = parent[i];
+    if (p < 0) {
+      world[o] = l0;
+      world[o + 1] = l1;
+      world[o + 2] = l2;
+      world[o + 3] = 0;
+      world[o + 4] = l4;
+      world[o + 5] = l5;
+      world[o + 6] = l6;
+      world[o + 7] = 0;
+      world[o + 8] = l8;
+      world[o + 9] = l9;
+      world[o + 10] = l10;
+      world[o + 11] = 0;
+      world[o + 12] = l12;
+      world[o + 13] = l13;
+      world[o + 14] = l14;
+      world[o + 15] = 1;
+      return;
+    }
+    // affine product: the last row of both matrices is (0, 0, 0, 1)
+    int q = 16 * p;
+    float p0 = world[q], p1 = world[q + 1], p2 = world[q + 2];
+    float p4 = world[q + 4], p5 = world[q + 5], p6 = world[q + 6];
+    float p8 = world[q + 8], p9 = world[q + 9], p10 = world[q + 10];
+    float p12 = world[q + 12], p13 = world[q + 13], p14 = world[q + 14];
+    world[o] = p0 * l0 + p4 * l1 + p8 * l2;
+    world[o + 1] = p1 * l0 + p5 * l1 + p9 * l2;
+    world[o + 2] = p2 * l0 + p6 * l1 + p10 * l2;
+    world[o + 3] = 0;
+    world[o + 4] = p0 * l4 + p4 * l5 + p8 * l6;
+    world[o + 5] = p1 * l4 + p5 * l5 + p9 * l6;
+    world[o + 6] = p2 * l4 + p6 * l5 + p10 * l6;
+    world[o + 7] = 0;
+    world[o + 8] = p0 * l8 + p4 * l9 + p8 * l10;
+    world[o + 9] = p1 * l8 + p5 * l9 + p9 * l10;
+    world[o + 10] = p2 * l8 + p6 * l9 + p10 * l10;
+    world[o + 11] = 0;
+    world[o + 12] = p0 * l12 + p4 * l13 + p8 * l14 + p12;
+    world[o + 13] = p1 * l12 + p5 * l13 + p9 * l14 + p13;
+    world[o + 14] = p2 * l12 + p6 * l13 + p10 * l14 + p14;
+    world[o + 15] = 1;
+  }
+
+  /**
+   * Returns the store index of the given frame, or -1 if the frame isn't reachable (see
+   * {@link remixlab.dandelion.core.AbstractScene#isFrameReachable(GenericFrame)}).
+   */
+  public int index(GenericFrame frame) {
+    update();
+    int i = frame.storeIndex;
+    return i >= 0 && i < count && frames[i] == frame ? i : -1;
+  }
+
+  /**
+   * Returns the {@code i}-th stored frame.
+   */
+  public GenericFrame frame(int i) {
+    return frames[i];
+  }
+
+  /**
+   * Returns the index of the parent of the {@code i}-th stored frame, or -1 if it's a
+   * leading frame.
+   */
+  public int parent(int i) {
+    return parent[i];
+  }
+
+  /**
+   * Returns the index past the branch of the {@code i}-th stored frame, i.e., the frame
+   * descendants are stored in {@code [i + 1, branchEnd(i))}.
+   */
+  public int branchEnd(int i) {
+    return end[i];
+  }
+
+  /**
+   * Returns the world matrices array, which holds 16 column-major floats per stored
+   * frame (see {@link #index(GenericFrame)}). Don't modify it, and call {@link #update()}
+   * before reading it.
+   */
+  public float[] worldMatrices() {
+    return world;
+  }
+
+  /**
+   * Copies the world matrix of the given frame into {@code target} (or into a new matrix
+   * if {@code target} is null) and returns it. Returns {@code null} if the frame isn't
+   * reachable.
+   *
+   * @see remixlab.dandelion.geom.Frame#worldMatrix()
+   */
+  public Mat worldMatrix(GenericFrame frame, Mat target) {
+    int i = index(frame);
+    if (i < 0)
+      return null;
+    if (target == null)
+      target = new Mat();
+    System.arraycopy(world, 16 * i, target.mat, 0, 16);
+    return target;
+  }
+}
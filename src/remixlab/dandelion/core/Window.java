@@ -73,6 +73,7 @@ public class Window extends Eye implements Copyable {
     viewMat.mat[13] = -t.vec[1];
     viewMat.mat[14] = -t.vec[2];
     viewMat.mat[15] = 1.0f;
+    modifiedMatrices();
   }
 
   @Override
@@ -84,6 +85,7 @@ public class Window extends Eye implements Copyable {
     projectionMat.mat[11] = 0.0f;
     projectionMat.mat[14] = -(FAKED_ZFAR + FAKED_ZNEAR) / (FAKED_ZFAR - FAKED_ZNEAR);
     projectionMat.mat[15] = 1.0f;
+    modifiedMatrices();
   }
 
   // TODO needs test
@@ -315,6 +317,8 @@ public class Window extends Eye implements Copyable {
 
   @Override
   public float sceneToPixelRatio(Vec position) {
+    // computed live (rather than from the cached projection), so that it's up to date
+    // right after the frame is scaled
     float[] wh = getBoundaryWidthHeight();
     return 2.0f * wh[1] / screenHeight();
   }
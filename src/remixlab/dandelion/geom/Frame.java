@@ -12,8 +12,6 @@ package remixlab.dandelion.geom;
 
 import remixlab.dandelion.constraint.Constraint;
 import remixlab.util.Copyable;
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
 import remixlab.util.Util;
 
 /**
@@ -113,7 +111,10 @@ import remixlab.util.Util;
 public class Frame implements Copyable {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(translation()).append(rotation()).append(scaling()).toHashCode();
+    int h = 37 * 17 + (trans == null ? 0 : trans.hashCode());
+    h = 37 * h + (rot == null ? 0 : rot.hashCode());
+    h = 37 * h + Util.hash(scl);
+    return h;
   }
 
   @Override
@@ -126,8 +127,8 @@ public class Frame implements Copyable {
       return false;
 
     Frame other = (Frame) obj;
-    return new EqualsBuilder().append(translation(), other.translation()).append(rotation(), other.rotation())
-        .append(scaling(), other.scaling()).isEquals();
+    return (trans == null ? other.trans == null : trans.equals(other.trans)) &&
+        (rot == null ? other.rot == null : rot.equals(other.rot)) && Util.identical(scl, other.scl);
   }
 
   protected Vec trans;
@@ -136,6 +137,20 @@ public class Frame implements Copyable {
   protected Frame refFrame;
   protected Constraint cnstrnt;
 
+  // world transformation cache, see updateWorldCache(): the Frame version is increased
+  // at each modification and its world stamp at each cache computation, which also
+  // records the version and the reference Frame (and its world stamp) it was computed
+  // from
+  private long version, cachedVersion = -1, worldStamp, cachedRefStamp;
+  private Frame cachedRef;
+  // link to the descendant being updated by updateWorldCache()
+  private Frame cacheChild;
+  private Vec wPos;
+  private Rotation wOrt;
+  private float wMag;
+  private Mat wMat;
+  private boolean wMatDirty = true;
+
   public Frame() {
     this(true);
   }
@@ -223,8 +238,117 @@ public class Frame implements Copyable {
 
   /**
    * Internal use. Automatically call by all methods which change the Frame state.
+   * <p>
+   * Invalidates the cached {@link #position()}, {@link #orientation()},
+   * {@link #magnitude()} and {@link #worldMatrix()}. Derived classes overriding this
+   * method should call {@code super.modified()}.
    */
   protected void modified() {
+    version++;
+  }
+
+  // WORLD CACHE
+
+  /**
+   * Internal use. Returns {@code true} if neither the Frame nor any of its
+   * {@link #referenceFrame()} ancestors have been {@link #modified()} since the world
+   * transformation cache was last computed.
+   * <p>
+   * The check only compares versions along the {@link #referenceFrame()} chain, so it
+   * neither allocates nor computes any transformation.
+   */
+  protected boolean isWorldCacheValid() {
+    for (Frame fr = this; fr != null; fr = fr.referenceFrame())
+      if (!fr.isCacheUpToDate())
+        return false;
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if neither the Frame nor its {@link #referenceFrame()} world
+   * cache have changed since the Frame world cache was computed.
+   */
+  private boolean isCacheUpToDate() {
+    Frame ref = referenceFrame();
+    return cachedVersion == version && cachedRef == ref && (ref == null || cachedRefStamp == ref.worldStamp);
+  }
+
+  /**
+   * Internal use. Recomputes (when needed) the cached world {@link #position()},
+   * {@link #orientation()} and {@link #magnitude()} from those of the
+   * {@link #referenceFrame()}, which are themselves cached. Hence, once the hierarchy has
+   * been updated, each query costs a single composition, regardless of the Frame depth.
+   * <p>
+   * The {@link #referenceFrame()} chain is walked iteratively (the outdated ancestors
+   * being updated from the root down), so that Frames of any depth may be queried. The
+   * walk is linked through the Frames themselves, so it neither allocates nor shares any
+   * state among different Frame hierarchies.
+   */
+  protected void updateWorldCache() {
+    if (isWorldCacheValid())
+      return;
+    // links each Frame of the chain to its descendant, from the Frame up to the root
+    Frame fr = this;
+    Frame child = null;
+    for (; fr != null; fr = fr.referenceFrame()) {
+      fr.cacheChild = child;
+      child = fr;
+    }
+    // then updates the chain from the root down
+    for (fr = child; fr != null; fr = child) {
+      if (!fr.isCacheUpToDate())
+        fr.computeWorldCache();
+      child = fr.cacheChild;
+      fr.cacheChild = null;
+    }
+  }
+
+  /**
+   * Stores the image of {@code v} by {@code rotation} in {@code target} (which may be
+   * {@code v} itself) and returns it. {@link remixlab.dandelion.geom.Quat} and
+   * {@link remixlab.dandelion.geom.Rot} rotations don't allocate any memory.
+   */
+  protected static Vec rotate(Rotation rotation, Vec v, Vec target) {
+    if (rotation instanceof Quat)
+      return ((Quat) rotation).rotate(v, target);
+    if (rotation instanceof Rot)
+      return ((Rot) rotation).rotate(v, target);
+    target.set(rotation.rotate(v));
+    return target;
+  }
+
+  /**
+   * Same as {@link #rotate(Rotation, Vec, Vec)}, but using the inverse {@code rotation}.
+   */
+  protected static Vec inverseRotate(Rotation rotation, Vec v, Vec target) {
+    if (rotation instanceof Quat)
+      return ((Quat) rotation).inverseRotate(v, target);
+    if (rotation instanceof Rot)
+      return ((Rot) rotation).inverseRotate(v, target);
+    target.set(rotation.inverseRotate(v));
+    return target;
+  }
+
+  /**
+   * Computes the world cache from that of the {@link #referenceFrame()}, which should be
+   * up to date.
+   */
+  private void computeWorldCache() {
+    Frame ref = referenceFrame();
+    if (ref == null) {
+      wPos = translation().get();
+      wOrt = rotation().get();
+      wMag = scaling();
+    } else {
+      wPos = Vec.add(ref.wOrt.rotate(Vec.multiply(translation(), ref.wMag)), ref.wPos);
+      wOrt = is3D() ? Quat.compose(ref.wOrt, rotation()) : Rot.compose(ref.wOrt, rotation());
+      wMag = ref.wMag * scaling();
+    }
+    wMatDirty = true;
+    cachedVersion = version;
+    cachedRef = ref;
+    cachedRefStamp = ref == null ? 0 : ref.worldStamp;
+    worldStamp++;
   }
 
   // DIM
@@ -341,6 +465,10 @@ public class Frame implements Copyable {
    * <p>
    * Use {@link #position()} to get the result in world coordinates. These two values are
    * identical when the {@link #referenceFrame()} is {@code null} (default).
+   * <p>
+   * <b>Attention:</b> the returned Vec is the Frame own translation. Don't modify it in
+   * place, since the Frame wouldn't notice it (leaving its world cache stale): call
+   * {@link #setTranslation(Vec)} or {@link #translate(Vec)} instead.
    *
    * @see #setTranslation(Vec)
    * @see #setTranslationWithConstraint(Vec)
@@ -356,9 +484,11 @@ public class Frame implements Copyable {
    * Use {@link #setPosition(Vec)} to define the world coordinates {@link #position()}.
    * Use {@link #setTranslationWithConstraint(Vec)} to take into account the potential
    * {@link #constraint()} of the Frame.
+   * <p>
+   * {@code t} is copied, so it may be freely modified afterwards.
    */
   public final void setTranslation(Vec t) {
-    trans = t;
+    trans = t.get();
     modified();
   }
 
@@ -382,14 +512,16 @@ public class Frame implements Copyable {
    * Same as {@link #setTranslation(Vec)}, but with {@code float} parameters.
    */
   public final void setTranslation(float x, float y) {
-    setTranslation(new Vec(x, y));
+    trans = new Vec(x, y);
+    modified();
   }
 
   /**
    * Same as {@link #setTranslation(Vec)}, but with {@code float} parameters.
    */
   public final void setTranslation(float x, float y, float z) {
-    setTranslation(new Vec(x, y, z));
+    trans = new Vec(x, y, z);
+    modified();
   }
 
   /**
@@ -437,7 +569,8 @@ public class Frame implements Copyable {
    * @see #translation()
    */
   public final Vec position() {
-    return inverseCoordinatesOf(new Vec(0, 0, 0));
+    updateWorldCache();
+    return wPos.get();
   }
 
   /**
@@ -490,6 +623,10 @@ public class Frame implements Copyable {
    * <p>
    * Use {@link #orientation()} to get the result in world coordinates. These two values
    * are identical when the {@link #referenceFrame()} is {@code null} (default).
+   * <p>
+   * <b>Attention:</b> the returned Rotation is the Frame own rotation. Don't modify it in
+   * place, since the Frame wouldn't notice it (leaving its world cache stale): call
+   * {@link #setRotation(Rotation)} or {@link #rotate(Rotation)} instead.
    *
    * @see #setRotation(Rotation)
    * @see #setRotationWithConstraint(Rotation)
@@ -508,13 +645,15 @@ public class Frame implements Copyable {
    * Use {@link #setOrientation(Rotation)} to define the world coordinates
    * {@link #orientation()}. The potential {@link #constraint()} of the Frame is not taken
    * into account, use {@link #setRotationWithConstraint(Rotation)} instead.
+   * <p>
+   * {@code r} is copied, so it may be freely modified afterwards.
    *
    * @see #setRotationWithConstraint(Rotation)
    * @see #rotation()
    * @see #setTranslation(Vec)
    */
   public final void setRotation(Rotation r) {
-    rot = r;
+    rot = r.get();
     modified();
   }
 
@@ -526,7 +665,8 @@ public class Frame implements Copyable {
       System.err.println("setRotation(float x, float y, float z, float w) is not available in 2D");
       return;
     }
-    setRotation(new Quat(x, y, z, w));
+    rot = new Quat(x, y, z, w);
+    modified();
   }
 
   /**
@@ -539,7 +679,8 @@ public class Frame implements Copyable {
       System.err.println("setRotation(float a) is not available in 3D");
       return;
     }
-    setRotation(new Rot(a));
+    rot = new Rot(a);
+    modified();
   }
 
   /**
@@ -620,6 +761,7 @@ public class Frame implements Copyable {
     this.rotation().compose(rotation);
     if (is3D())
       this.rotation().normalize(); // Prevents numerical drift
+    modified();
 
     Rotation q;
     if (is3D())
@@ -666,16 +808,8 @@ public class Frame implements Copyable {
    * @see #rotation()
    */
   public final Rotation orientation() {
-    Rotation res = rotation().get();
-    Frame fr = referenceFrame();
-    while (fr != null) {
-      if (is3D())
-        res = Quat.compose(fr.rotation(), res);
-      else
-        res = Rot.compose(fr.rotation(), res);
-      fr = fr.referenceFrame();
-    }
-    return res;
+    updateWorldCache();
+    return wOrt.get();
   }
 
   /**
@@ -772,10 +906,8 @@ public class Frame implements Copyable {
    * @see #translation()
    */
   public float magnitude() {
-    if (referenceFrame() != null)
-      return referenceFrame().magnitude() * scaling();
-    else
-      return scaling();
+    updateWorldCache();
+    return wMag;
   }
 
   /**
@@ -1155,26 +1287,32 @@ public class Frame implements Copyable {
    * {@link #worldMatrix()}. Use it immediately (as above).
    */
   public final Mat matrix() {
-    Mat pM = new Mat();
+    return matrix(translation(), rotation(), scaling());
+  }
 
-    pM = rotation().matrix();
+  /**
+   * Internal use. Returns the matrix of the translation {@code t}, followed by the
+   * rotation {@code r} and the scaling {@code s}.
+   */
+  protected static Mat matrix(Vec t, Rotation r, float s) {
+    Mat pM = r.matrix();
 
-    pM.mat[12] = translation().vec[0];
-    pM.mat[13] = translation().vec[1];
-    pM.mat[14] = translation().vec[2];
+    pM.mat[12] = t.vec[0];
+    pM.mat[13] = t.vec[1];
+    pM.mat[14] = t.vec[2];
 
-    if (scaling() != 1) {
-      pM.setM00(pM.m00() * scaling());
-      pM.setM10(pM.m10() * scaling());
-      pM.setM20(pM.m20() * scaling());
+    if (s != 1) {
+      pM.setM00(pM.m00() * s);
+      pM.setM10(pM.m10() * s);
+      pM.setM20(pM.m20() * s);
 
-      pM.setM01(pM.m01() * scaling());
-      pM.setM11(pM.m11() * scaling());
-      pM.setM21(pM.m21() * scaling());
+      pM.setM01(pM.m01() * s);
+      pM.setM11(pM.m11() * s);
+      pM.setM21(pM.m21() * s);
 
-      pM.setM02(pM.m02() * scaling());
-      pM.setM12(pM.m12() * scaling());
-      pM.setM22(pM.m22() * scaling());
+      pM.setM02(pM.m02() * s);
+      pM.setM12(pM.m12() * s);
+      pM.setM22(pM.m22() * s);
     }
 
     return pM;
@@ -1204,10 +1342,30 @@ public class Frame implements Copyable {
    * or {@code worldMatrix()}. Use it immediately (as above).
    */
   public final Mat worldMatrix() {
-    if (referenceFrame() != null)
-      return new Frame(position(), orientation(), magnitude()).matrix();
-    else
+    if (referenceFrame() == null)
       return matrix();
+    updateWorldCache();
+    if (wMatDirty) {
+      wMat = matrix(wPos, wOrt, wMag);
+      wMatDirty = false;
+    }
+    return wMat.get();
+  }
+
+  /**
+   * Returns the inverse of the {@link #worldMatrix()}, i.e., the matrix that transforms
+   * world coordinates into Frame coordinates. It's computed in closed form from the
+   * cached world {@link #position()}, {@link #orientation()} and {@link #magnitude()}, so
+   * no general matrix inversion is performed.
+   *
+   * @see #coordinatesOf(Mat, float[], float[], int, int)
+   */
+  public final Mat worldInverseMatrix() {
+    updateWorldCache();
+    float s = 1 / wMag;
+    Vec t = inverseRotate(wOrt, wPos, new Vec());
+    t.multiply(-s);
+    return matrix(t, wOrt.inverse(), s);
   }
 
   /**
@@ -1284,6 +1442,7 @@ public class Frame implements Copyable {
     Vec z = new Vec(r[0][2], r[1][2], r[2][2]);
 
     rotation().fromRotatedBasis(x, y, z);
+    modified();
   }
 
   /**
@@ -1386,14 +1545,24 @@ public class Frame implements Copyable {
    * coordinate system is {@code src} (converts from {@code from} to Frame).
    * <p>
    * {@link #coordinatesOfIn(Vec, Frame)} performs the inverse transformation.
+   *
+   * @see #coordinatesOfFrom(Vec, Frame, Vec)
    */
   public final Vec coordinatesOfFrom(Vec src, Frame from) {
-    if (this == from)
-      return src;
-    else if (referenceFrame() != null)
-      return localCoordinatesOf(referenceFrame().coordinatesOfFrom(src, from));
-    else
-      return localCoordinatesOf(from.inverseCoordinatesOf(src));
+    return coordinatesOfFrom(src, from, new Vec());
+  }
+
+  /**
+   * Same as {@link #coordinatesOfFrom(Vec, Frame)}, but stores the result in
+   * {@code target} (which may be {@code src} itself) and returns it. No memory is
+   * allocated once the world transformations of both frames are cached.
+   */
+  public final Vec coordinatesOfFrom(Vec src, Frame from, Vec target) {
+    if (this == from) {
+      target.set(src);
+      return target;
+    }
+    return coordinatesOf(from.inverseCoordinatesOf(src, target), target);
   }
 
   /**
@@ -1401,22 +1570,20 @@ public class Frame implements Copyable {
    * coordinate system is {@code src} (converts from Frame to {@code in}).
    * <p>
    * {@link #coordinatesOfFrom(Vec, Frame)} performs the inverse transformation.
+   *
+   * @see #coordinatesOfIn(Vec, Frame, Vec)
    */
   public final Vec coordinatesOfIn(Vec src, Frame in) {
-    Frame fr = this;
-    Vec res = src;
-    while ((fr != null) && (fr != in)) {
-      res = fr.localInverseCoordinatesOf(res);
-      fr = fr.referenceFrame();
-    }
-
-    if (fr != in)
-      // in was not found in the branch of this, res is now expressed in the
-      // world
-      // coordinate system. Simply convert to in coordinate system.
-      res = in.coordinatesOf(res);
+    return coordinatesOfIn(src, in, new Vec());
+  }
 
-    return res;
+  /**
+   * Same as {@link #coordinatesOfIn(Vec, Frame)}, but stores the result in
+   * {@code target} (which may be {@code src} itself) and returns it. No memory is
+   * allocated once the world transformations of both frames are cached.
+   */
+  public final Vec coordinatesOfIn(Vec src, Frame in, Vec target) {
+    return in.coordinatesOfFrom(src, this, target);
   }
 
   /**
@@ -1429,7 +1596,16 @@ public class Frame implements Copyable {
    * @see #localTransformOf(Vec)
    */
   public final Vec localCoordinatesOf(Vec src) {
-    return Vec.divide(rotation().inverseRotate(Vec.subtract(src, translation())), scaling());
+    return localCoordinatesOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #localCoordinatesOf(Vec)}, but stores the result in {@code target}
+   * (which may be {@code src} itself) and returns it. No memory is allocated.
+   */
+  public final Vec localCoordinatesOf(Vec src, Vec target) {
+    Vec.subtract(src, translation(), target);
+    return Vec.divide(inverseRotate(rotation(), target, target), scaling(), target);
   }
 
   /**
@@ -1438,12 +1614,25 @@ public class Frame implements Copyable {
    * <p>
    * {@link #inverseCoordinatesOf(Vec)} performs the inverse conversion.
    * {@link #transformOf(Vec)} converts vectors instead of coordinates.
+   *
+   * @see #coordinatesOf(Vec, Vec)
    */
   public final Vec coordinatesOf(Vec src) {
-    if (referenceFrame() != null)
-      return localCoordinatesOf(referenceFrame().coordinatesOf(src));
-    else
-      return localCoordinatesOf(src);
+    return coordinatesOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #coordinatesOf(Vec)}, but stores the result in {@code target} (which
+   * may be {@code src} itself) and returns it.
+   * <p>
+   * The conversion uses the cached world transformation (see {@link #position()}) and
+   * hence costs the same regardless of the Frame depth. No memory is allocated once the
+   * cache is up to date.
+   */
+  public final Vec coordinatesOf(Vec src, Vec target) {
+    updateWorldCache();
+    Vec.subtract(src, wPos, target);
+    return Vec.divide(inverseRotate(wOrt, target, target), wMag, target);
   }
 
   // VECTOR CONVERSION
@@ -1453,14 +1642,24 @@ public class Frame implements Copyable {
    * coordinate system is {@code src} (converts vectors from {@code from} to Frame).
    * <p>
    * {@link #transformOfIn(Vec, Frame)} performs the inverse transformation.
+   *
+   * @see #transformOfFrom(Vec, Frame, Vec)
    */
   public final Vec transformOfFrom(Vec src, Frame from) {
-    if (this == from)
-      return src;
-    else if (referenceFrame() != null)
-      return localTransformOf(referenceFrame().transformOfFrom(src, from));
-    else
-      return localTransformOf(from.inverseTransformOf(src));
+    return transformOfFrom(src, from, new Vec());
+  }
+
+  /**
+   * Same as {@link #transformOfFrom(Vec, Frame)}, but stores the result in
+   * {@code target} (which may be {@code src} itself) and returns it. No memory is
+   * allocated once the world transformations of both frames are cached.
+   */
+  public final Vec transformOfFrom(Vec src, Frame from, Vec target) {
+    if (this == from) {
+      target.set(src);
+      return target;
+    }
+    return transformOf(from.inverseTransformOf(src, target), target);
   }
 
   /**
@@ -1468,21 +1667,20 @@ public class Frame implements Copyable {
    * coordinate system is {@code src} (converts vectors from Frame to {@code in}).
    * <p>
    * {@link #transformOfFrom(Vec, Frame)} performs the inverse transformation.
+   *
+   * @see #transformOfIn(Vec, Frame, Vec)
    */
   public final Vec transformOfIn(Vec src, Frame in) {
-    Frame fr = this;
-    Vec res = src;
-    while ((fr != null) && (fr != in)) {
-      res = fr.localInverseTransformOf(res);
-      fr = fr.referenceFrame();
-    }
-
-    if (fr != in)
-      // in was not found in the branch of this, res is now expressed in
-      // the world coordinate system. Simply convert to in coordinate system.
-      res = in.transformOf(res);
+    return transformOfIn(src, in, new Vec());
+  }
 
-    return res;
+  /**
+   * Same as {@link #transformOfIn(Vec, Frame)}, but stores the result in {@code target}
+   * (which may be {@code src} itself) and returns it. No memory is allocated once the
+   * world transformations of both frames are cached.
+   */
+  public final Vec transformOfIn(Vec src, Frame in, Vec target) {
+    return in.transformOfFrom(src, this, target);
   }
 
   /**
@@ -1494,7 +1692,17 @@ public class Frame implements Copyable {
    * @see #localInverseTransformOf(Vec)
    */
   public final Vec localInverseCoordinatesOf(Vec src) {
-    return Vec.add(rotation().rotate(Vec.multiply(src, scaling())), translation());
+    return localInverseCoordinatesOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #localInverseCoordinatesOf(Vec)}, but stores the result in
+   * {@code target} (which may be {@code src} itself) and returns it. No memory is
+   * allocated.
+   */
+  public final Vec localInverseCoordinatesOf(Vec src, Vec target) {
+    Vec.multiply(src, scaling(), target);
+    return Vec.add(rotate(rotation(), target, target), translation(), target);
   }
 
   /**
@@ -1503,15 +1711,25 @@ public class Frame implements Copyable {
    * <p>
    * {@link #coordinatesOf(Vec)} performs the inverse conversion. Use
    * {@link #inverseTransformOf(Vec)} to transform vectors instead of coordinates.
+   *
+   * @see #inverseCoordinatesOf(Vec, Vec)
    */
   public final Vec inverseCoordinatesOf(Vec src) {
-    Frame fr = this;
-    Vec res = src;
-    while (fr != null) {
-      res = fr.localInverseCoordinatesOf(res);
-      fr = fr.referenceFrame();
-    }
-    return res;
+    return inverseCoordinatesOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #inverseCoordinatesOf(Vec)}, but stores the result in {@code target}
+   * (which may be {@code src} itself) and returns it.
+   * <p>
+   * The conversion uses the cached world transformation (see {@link #position()}) and
+   * hence costs the same regardless of the Frame depth. No memory is allocated once the
+   * cache is up to date.
+   */
+  public final Vec inverseCoordinatesOf(Vec src, Vec target) {
+    updateWorldCache();
+    Vec.multiply(src, wMag, target);
+    return Vec.add(rotate(wOrt, target, target), wPos, target);
   }
 
   /**
@@ -1521,12 +1739,21 @@ public class Frame implements Copyable {
    * {@link #inverseTransformOf(Vec)} performs the inverse transformation.
    * {@link #coordinatesOf(Vec)} converts coordinates instead of vectors (here only the
    * rotational part of the transformation is taken into account).
+   *
+   * @see #transformOf(Vec, Vec)
    */
   public final Vec transformOf(Vec src) {
-    if (referenceFrame() != null)
-      return localTransformOf(referenceFrame().transformOf(src));
-    else
-      return localTransformOf(src);
+    return transformOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #transformOf(Vec)}, but stores the result in {@code target} (which may
+   * be {@code src} itself) and returns it. No memory is allocated once the world
+   * transformation cache is up to date.
+   */
+  public final Vec transformOf(Vec src, Vec target) {
+    updateWorldCache();
+    return Vec.divide(inverseRotate(wOrt, src, target), wMag, target);
   }
 
   /**
@@ -1535,15 +1762,22 @@ public class Frame implements Copyable {
    * <p>
    * {@link #transformOf(Vec)} performs the inverse transformation. Use
    * {@link #inverseCoordinatesOf(Vec)} to transform coordinates instead of vectors.
+   *
+   * @see #inverseTransformOf(Vec, Vec)
    */
   public final Vec inverseTransformOf(Vec src) {
-    Frame fr = this;
-    Vec res = src;
-    while (fr != null) {
-      res = fr.localInverseTransformOf(res);
-      fr = fr.referenceFrame();
-    }
-    return res;
+    return inverseTransformOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #inverseTransformOf(Vec)}, but stores the result in {@code target}
+   * (which may be {@code src} itself) and returns it. No memory is allocated once the
+   * world transformation cache is up to date.
+   */
+  public final Vec inverseTransformOf(Vec src, Vec target) {
+    updateWorldCache();
+    Vec.multiply(src, wMag, target);
+    return rotate(wOrt, target, target);
   }
 
   /**
@@ -1556,7 +1790,15 @@ public class Frame implements Copyable {
    * @see #localCoordinatesOf(Vec)
    */
   public final Vec localTransformOf(Vec src) {
-    return Vec.divide(rotation().inverseRotate(src), scaling());
+    return localTransformOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #localTransformOf(Vec)}, but stores the result in {@code target}
+   * (which may be {@code src} itself) and returns it. No memory is allocated.
+   */
+  public final Vec localTransformOf(Vec src, Vec target) {
+    return Vec.divide(inverseRotate(rotation(), src, target), scaling(), target);
   }
 
   /**
@@ -1569,6 +1811,145 @@ public class Frame implements Copyable {
    * @see #localInverseCoordinatesOf(Vec)
    */
   public final Vec localInverseTransformOf(Vec src) {
-    return rotation().rotate(Vec.multiply(src, scaling()));
+    return localInverseTransformOf(src, new Vec());
+  }
+
+  /**
+   * Same as {@link #localInverseTransformOf(Vec)}, but stores the result in
+   * {@code target} (which may be {@code src} itself) and returns it. No memory is
+   * allocated.
+   */
+  public final Vec localInverseTransformOf(Vec src, Vec target) {
+    Vec.multiply(src, scaling(), target);
+    return rotate(rotation(), target, target);
+  }
+
+  // BULK CONVERSION
+
+  /**
+   * Convenience function that simply calls
+   * {@code coordinatesOf(null, in, out, 0, count)}.
+   *
+   * @see #coordinatesOf(Mat, float[], float[], int, int)
+   */
+  public final void coordinatesOf(float[] in, float[] out, int count) {
+    coordinatesOf(null, in, out, 0, count);
+  }
+
+  /**
+   * Bulk version of {@link #coordinatesOf(Vec)}. Converts the {@code count} world points
+   * packed (as {@code x, y, z} triplets) in {@code in}, starting at point {@code offset}
+   * (i.e., at {@code in[3 * offset]}), and stores their Frame coordinates at the same
+   * place in {@code out}, which may be {@code in} itself.
+   * <p>
+   * When {@code worldInverseMatrix} is null, the {@link #worldInverseMatrix()} is
+   * computed (once). Passing it explicitly allows to split a large array into chunks
+   * without recomputing it. No memory is allocated by the conversion loop itself.
+   *
+   * @see #inverseCoordinatesOf(Mat, float[], float[], int, int)
+   */
+  public final void coordinatesOf(Mat worldInverseMatrix, float[] in, float[] out, int offset, int count) {
+    transformPoints((worldInverseMatrix == null ? worldInverseMatrix() : worldInverseMatrix).mat, in, out, offset,
+        count);
+  }
+
+  /**
+   * Convenience function that simply calls
+   * {@code inverseCoordinatesOf(null, in, out, 0, count)}.
+   *
+   * @see #inverseCoordinatesOf(Mat, float[], float[], int, int)
+   */
+  public final void inverseCoordinatesOf(float[] in, float[] out, int count) {
+    inverseCoordinatesOf(null, in, out, 0, count);
+  }
+
+  /**
+   * Bulk version of {@link #inverseCoordinatesOf(Vec)}. Converts the {@code count} Frame
+   * points packed (as {@code x, y, z} triplets) in {@code in}, starting at point
+   * {@code offset} (i.e., at {@code in[3 * offset]}), and stores their world coordinates
+   * at the same place in {@code out}, which may be {@code in} itself.
+   * <p>
+   * When {@code worldMatrix} is null, the {@link #worldMatrix()} is computed (once).
+   * Passing it explicitly allows to split a large array into chunks without recomputing
+   * it. No memory is allocated by the conversion loop itself.
+   *
+   * @see #coordinatesOf(Mat, float[], float[], int, int)
+   */
+  public final void inverseCoordinatesOf(Mat worldMatrix, float[] in, float[] out, int offset, int count) {
+    transformPoints((worldMatrix == null ? worldMatrix() : worldMatrix).mat, in, out, offset, count);
+  }
+
+  /**
+   * Convenience function that simply calls {@code transformOf(null, in, out, 0, count)}.
+   *
+   * @see #transformOf(Mat, float[], float[], int, int)
+   */
+  public final void transformOf(float[] in, float[] out, int count) {
+    transformOf(null, in, out, 0, count);
+  }
+
+  /**
+   * Bulk version of {@link #transformOf(Vec)}. Same as
+   * {@link #coordinatesOf(Mat, float[], float[], int, int)}, but converts vectors
+   * instead of points, i.e., the translation of the {@code worldInverseMatrix} is
+   * ignored.
+   *
+   * @see #inverseTransformOf(Mat, float[], float[], int, int)
+   */
+  public final void transformOf(Mat worldInverseMatrix, float[] in, float[] out, int offset, int count) {
+    transformVectors((worldInverseMatrix == null ? worldInverseMatrix() : worldInverseMatrix).mat, in, out, offset,
+        count);
+  }
+
+  /**
+   * Convenience function that simply calls
+   * {@code inverseTransformOf(null, in, out, 0, count)}.
+   *
+   * @see #inverseTransformOf(Mat, float[], float[], int, int)
+   */
+  public final void inverseTransformOf(float[] in, float[] out, int count) {
+    inverseTransformOf(null, in, out, 0, count);
+  }
+
+  /**
+   * Bulk version of {@link #inverseTransformOf(Vec)}. Same as
+   * {@link #inverseCoordinatesOf(Mat, float[], float[], int, int)}, but converts vectors
+   * instead of points, i.e., the translation of the {@code worldMatrix} is ignored.
+   *
+   * @see #transformOf(Mat, float[], float[], int, int)
+   */
+  public final void inverseTransformOf(Mat worldMatrix, float[] in, float[] out, int offset, int count) {
+    transformVectors((worldMatrix == null ? worldMatrix() : worldMatrix).mat, in, out, offset, count);
+  }
+
+  /**
+   * Internal use. Applies the affine (column-major) matrix {@code m} to the packed
+   * points. The matrix entries are hoisted into locals so that the loop body is free of
+   * field and array-bound accesses other than the ones to the streamed arrays.
+   */
+  protected static void transformPoints(float[] m, float[] in, float[] out, int offset, int count) {
+    float m0 = m[0], m1 = m[1], m2 = m[2], m4 = m[4], m5 = m[5], m6 = m[6];
+    float m8 = m[8], m9 = m[9], m10 = m[10], m12 = m[12], m13 = m[13], m14 = m[14];
+    for (int i = 3 * offset, end = 3 * (offset + count); i < end; i += 3) {
+      float x = in[i], y = in[i + 1], z = in[i + 2];
+      out[i] = m0 * x + m4 * y + m8 * z + m12;
+      out[i + 1] = m1 * x + m5 * y + m9 * z + m13;
+      out[i + 2] = m2 * x + m6 * y + m10 * z + m14;
+    }
+  }
+
+  /**
+   * Internal use. Same as {@link #transformPoints(float[], float[], float[], int, int)}
+   * but ignores the translation of {@code m}.
+   */
+  protected static void transformVectors(float[] m, float[] in, float[] out, int offset, int count) {
+    float m0 = m[0], m1 = m[1], m2 = m[2], m4 = m[4], m5 = m[5], m6 = m[6];
+    float m8 = m[8], m9 = m[9], m10 = m[10];
+    for (int i = 3 * offset, end = 3 * (offset + count); i < end; i += 3) {
+      float x = in[i], y = in[i + 1], z = in[i + 2];
+      out[i] = m0 * x + m4 * y + m8 * z;
+      out[i + 1] = m1 * x + m5 * y + m9 * z;
+      out[i + 2] = m2 * x + m6 * y + m10 * z;
+    }
   }
 }
@@ -725,25 +725,33 @@ public class Mat implements Linkable {
    * Define {@code c} as {@code a x b}.
    */
   public static void multiply(Mat a, Mat b, Mat c) {
-    c.mat[0] = a.mat[0] * b.mat[0] + a.mat[4] * b.mat[1] + a.mat[8] * b.mat[2] + a.mat[12] * b.mat[3];
-    c.mat[4] = a.mat[0] * b.mat[4] + a.mat[4] * b.mat[5] + a.mat[8] * b.mat[6] + a.mat[12] * b.mat[7];
-    c.mat[8] = a.mat[0] * b.mat[8] + a.mat[4] * b.mat[9] + a.mat[8] * b.mat[10] + a.mat[12] * b.mat[11];
-    c.mat[12] = a.mat[0] * b.mat[12] + a.mat[4] * b.mat[13] + a.mat[8] * b.mat[14] + a.mat[12] * b.mat[15];
-
-    c.mat[1] = a.mat[1] * b.mat[0] + a.mat[5] * b.mat[1] + a.mat[9] * b.mat[2] + a.mat[13] * b.mat[3];
-    c.mat[5] = a.mat[1] * b.mat[4] + a.mat[5] * b.mat[5] + a.mat[9] * b.mat[6] + a.mat[13] * b.mat[7];
-    c.mat[9] = a.mat[1] * b.mat[8] + a.mat[5] * b.mat[9] + a.mat[9] * b.mat[10] + a.mat[13] * b.mat[11];
-    c.mat[13] = a.mat[1] * b.mat[12] + a.mat[5] * b.mat[13] + a.mat[9] * b.mat[14] + a.mat[13] * b.mat[15];
-
-    c.mat[2] = a.mat[2] * b.mat[0] + a.mat[6] * b.mat[1] + a.mat[10] * b.mat[2] + a.mat[14] * b.mat[3];
-    c.mat[6] = a.mat[2] * b.mat[4] + a.mat[6] * b.mat[5] + a.mat[10] * b.mat[6] + a.mat[14] * b.mat[7];
-    c.mat[10] = a.mat[2] * b.mat[8] + a.mat[6] * b.mat[9] + a.mat[10] * b.mat[10] + a.mat[14] * b.mat[11];
-    c.mat[14] = a.mat[2] * b.mat[12] + a.mat[6] * b.mat[13] + a.mat[10] * b.mat[14] + a.mat[14] * b.mat[15];
-
-    c.mat[3] = a.mat[3] * b.mat[0] + a.mat[7] * b.mat[1] + a.mat[11] * b.mat[2] + a.mat[15] * b.mat[3];
-    c.mat[7] = a.mat[3] * b.mat[4] + a.mat[7] * b.mat[5] + a.mat[11] * b.mat[6] + a.mat[15] * b.mat[7];
-    c.mat[11] = a.mat[3] * b.mat[8] + a.mat[7] * b.mat[9] + a.mat[11] * b.mat[10] + a.mat[15] * b.mat[11];
-    c.mat[15] = a.mat[3] * b.mat[12] + a.mat[7] * b.mat[13] + a.mat[11] * b.mat[14] + a.mat[15] * b.mat[15];
+    // entries are loaded first, so that c may be a or b
+    float[] am = a.mat, bm = b.mat;
+    float a0 = am[0], a4 = am[4], a8 = am[8], a12 = am[12];
+    float a1 = am[1], a5 = am[5], a9 = am[9], a13 = am[13];
+    float a2 = am[2], a6 = am[6], a10 = am[10], a14 = am[14];
+    float a3 = am[3], a7 = am[7], a11 = am[11], a15 = am[15];
+    float b0 = bm[0], b4 = bm[4], b8 = bm[8], b12 = bm[12];
+    float b1 = bm[1], b5 = bm[5], b9 = bm[9], b13 = bm[13];
+    float b2 = bm[2], b6 = bm[6], b10 = bm[10], b14 = bm[14];
+    float b3 = bm[3], b7 = bm[7], b11 = bm[11], b15 = bm[15];
+    float[] cm = c.mat;
+    cm[0] = a0 * b0 + a4 * b1 + a8 * b2 + a12 * b3;
+    cm[4] = a0 * b4 + a4 * b5 + a8 * b6 + a12 * b7;
+    cm[8] = a0 * b8 + a4 * b9 + a8 * b10 + a12 * b11;
+    cm[12] = a0 * b12 + a4 * b13 + a8 * b14 + a12 * b15;
+    cm[1] = a1 * b0 + a5 * b1 + a9 * b2 + a13 * b3;
+    cm[5] = a1 * b4 + a5 * b5 + a9 * b6 + a13 * b7;
+    cm[9] = a1 * b8 + a5 * b9 + a9 * b10 + a13 * b11;
+    cm[13] = a1 * b12 + a5 * b13 + a9 * b14 + a13 * b15;
+    cm[2] = a2 * b0 + a6 * b1 + a10 * b2 + a14 * b3;
+    cm[6] = a2 * b4 + a6 * b5 + a10 * b6 + a14 * b7;
+    cm[10] = a2 * b8 + a6 * b9 + a10 * b10 + a14 * b11;
+    cm[14] = a2 * b12 + a6 * b13 + a10 * b14 + a14 * b15;
+    cm[3] = a3 * b0 + a7 * b1 + a11 * b2 + a15 * b3;
+    cm[7] = a3 * b4 + a7 * b5 + a11 * b6 + a15 * b7;
+    cm[11] = a3 * b8 + a7 * b9 + a11 * b10 + a15 * b11;
+    cm[15] = a3 * b12 + a7 * b13 + a11 * b14 + a15 * b15;
   }
 
   /**
@@ -752,43 +760,26 @@ public class Mat implements Linkable {
    */
   public void apply(float m0, float m1, float m2, float m3, float m4, float m5, float m6, float m7, float m8, float m9,
                     float m10, float m11, float m12, float m13, float m14, float m15) {
-
-    float r00 = mat[0] * m0 + mat[4] * m1 + mat[8] * m2 + mat[12] * m3;
-    float r01 = mat[0] * m4 + mat[4] * m5 + mat[8] * m6 + mat[12] * m7;
-    float r02 = mat[0] * m8 + mat[4] * m9 + mat[8] * m10 + mat[12] * m11;
-    float r03 = mat[0] * m12 + mat[4] * m13 + mat[8] * m14 + mat[12] * m15;
-
-    float r10 = mat[1] * m0 + mat[5] * m1 + mat[9] * m2 + mat[13] * m3;
-    float r11 = mat[1] * m4 + mat[5] * m5 + mat[9] * m6 + mat[13] * m7;
-    float r12 = mat[1] * m8 + mat[5] * m9 + mat[9] * m10 + mat[13] * m11;
-    float r13 = mat[1] * m12 + mat[5] * m13 + mat[9] * m14 + mat[13] * m15;
-
-    float r20 = mat[2] * m0 + mat[6] * m1 + mat[10] * m2 + mat[14] * m3;
-    float r21 = mat[2] * m4 + mat[6] * m5 + mat[10] * m6 + mat[14] * m7;
-    float r22 = mat[2] * m8 + mat[6] * m9 + mat[10] * m10 + mat[14] * m11;
-    float r23 = mat[2] * m12 + mat[6] * m13 + mat[10] * m14 + mat[14] * m15;
-
-    float r30 = mat[3] * m0 + mat[7] * m1 + mat[11] * m2 + mat[15] * m3;
-    float r31 = mat[3] * m4 + mat[7] * m5 + mat[11] * m6 + mat[15] * m7;
-    float r32 = mat[3] * m8 + mat[7] * m9 + mat[11] * m10 + mat[15] * m11;
-    float r33 = mat[3] * m12 + mat[7] * m13 + mat[11] * m14 + mat[15] * m15;
-
-    mat[0] = r00;
-    mat[4] = r01;
-    mat[8] = r02;
-    mat[12] = r03;
-    mat[1] = r10;
-    mat[5] = r11;
-    mat[9] = r12;
-    mat[13] = r13;
-    mat[2] = r20;
-    mat[6] = r21;
-    mat[10] = r22;
-    mat[14] = r23;
-    mat[3] = r30;
-    mat[7] = r31;
-    mat[11] = r32;
-    mat[15] = r33;
+    float a0 = mat[0], a4 = mat[4], a8 = mat[8], a12 = mat[12];
+    float a1 = mat[1], a5 = mat[5], a9 = mat[9], a13 = mat[13];
+    float a2 = mat[2], a6 = mat[6], a10 = mat[10], a14 = mat[14];
+    float a3 = mat[3], a7 = mat[7], a11 = mat[11], a15 = mat[15];
+    mat[0] = a0 * m0 + a4 * m1 + a8 * m2 + a12 * m3;
+    mat[4] = a0 * m4 + a4 * m5 + a8 * m6 + a12 * m7;
+    mat[8] = a0 * m8 + a4 * m9 + a8 * m10 + a12 * m11;
+    mat[12] = a0 * m12 + a4 * m13 + a8 * m14 + a12 * m15;
+    mat[1] = a1 * m0 + a5 * m1 + a9 * m2 + a13 * m3;
+    mat[5] = a1 * m4 + a5 * m5 + a9 * m6 + a13 * m7;
+    mat[9] = a1 * m8 + a5 * m9 + a9 * m10 + a13 * m11;
+    mat[13] = a1 * m12 + a5 * m13 + a9 * m14 + a13 * m15;
+    mat[2] = a2 * m0 + a6 * m1 + a10 * m2 + a14 * m3;
+    mat[6] = a2 * m4 + a6 * m5 + a10 * m6 + a14 * m7;
+    mat[10] = a2 * m8 + a6 * m9 + a10 * m10 + a14 * m11;
+    mat[14] = a2 * m12 + a6 * m13 + a10 * m14 + a14 * m15;
+    mat[3] = a3 * m0 + a7 * m1 + a11 * m2 + a15 * m3;
+    mat[7] = a3 * m4 + a7 * m5 + a11 * m6 + a15 * m7;
+    mat[11] = a3 * m8 + a7 * m9 + a11 * m10 + a15 * m11;
+    mat[15] = a3 * m12 + a7 * m13 + a11 * m14 + a15 * m15;
   }
 
   /**
@@ -877,42 +868,26 @@ public class Mat implements Linkable {
    */
   public void preApply(float m0, float m1, float m2, float m3, float m4, float m5, float m6, float m7, float m8,
                        float m9, float m10, float m11, float m12, float m13, float m14, float m15) {
-    float r00 = m0 * mat[0] + m4 * mat[1] + m8 * mat[2] + m12 * mat[3];
-    float r01 = m0 * mat[4] + m4 * mat[5] + m8 * mat[6] + m12 * mat[7];
-    float r02 = m0 * mat[8] + m4 * mat[9] + m8 * mat[10] + m12 * mat[11];
-    float r03 = m0 * mat[12] + m4 * mat[13] + m8 * mat[14] + m12 * mat[15];
-
-    float r10 = m1 * mat[0] + m5 * mat[1] + m9 * mat[2] + m13 * mat[3];
-    float r11 = m1 * mat[4] + m5 * mat[5] + m9 * mat[6] + m13 * mat[7];
-    float r12 = m1 * mat[8] + m5 * mat[9] + m9 * mat[10] + m13 * mat[11];
-    float r13 = m1 * mat[12] + m5 * mat[13] + m9 * mat[14] + m13 * mat[15];
-
-    float r20 = m2 * mat[0] + m6 * mat[1] + m10 * mat[2] + m14 * mat[3];
-    float r21 = m2 * mat[4] + m6 * mat[5] + m10 * mat[6] + m14 * mat[7];
-    float r22 = m2 * mat[8] + m6 * mat[9] + m10 * mat[10] + m14 * mat[11];
-    float r23 = m2 * mat[12] + m6 * mat[13] + m10 * mat[14] + m14 * mat[15];
-
-    float r30 = m3 * mat[0] + m7 * mat[1] + m11 * mat[2] + m15 * mat[3];
-    float r31 = m3 * mat[4] + m7 * mat[5] + m11 * mat[6] + m15 * mat[7];
-    float r32 = m3 * mat[8] + m7 * mat[9] + m11 * mat[10] + m15 * mat[11];
-    float r33 = m3 * mat[12] + m7 * mat[13] + m11 * mat[14] + m15 * mat[15];
-
-    mat[0] = r00;
-    mat[4] = r01;
-    mat[8] = r02;
-    mat[12] = r03;
-    mat[1] = r10;
-    mat[5] = r11;
-    mat[9] = r12;
-    mat[13] = r13;
-    mat[2] = r20;
-    mat[6] = r21;
-    mat[10] = r22;
-    mat[14] = r23;
-    mat[3] = r30;
-    mat[7] = r31;
-    mat[11] = r32;
-    mat[15] = r33;
+    float a0 = mat[0], a4 = mat[4], a8 = mat[8], a12 = mat[12];
+    float a1 = mat[1], a5 = mat[5], a9 = mat[9], a13 = mat[13];
+    float a2 = mat[2], a6 = mat[6], a10 = mat[10], a14 = mat[14];
+    float a3 = mat[3], a7 = mat[7], a11 = mat[11], a15 = mat[15];
+    mat[0] = m0 * a0 + m4 * a1 + m8 * a2 + m12 * a3;
+    mat[4] = m0 * a4 + m4 * a5 + m8 * a6 + m12 * a7;
+    mat[8] = m0 * a8 + m4 * a9 + m8 * a10 + m12 * a11;
+    mat[12] = m0 * a12 + m4 * a13 + m8 * a14 + m12 * a15;
+    mat[1] = m1 * a0 + m5 * a1 + m9 * a2 + m13 * a3;
+    mat[5] = m1 * a4 + m5 * a5 + m9 * a6 + m13 * a7;
+    mat[9] = m1 * a8 + m5 * a9 + m9 * a10 + m13 * a11;
+    mat[13] = m1 * a12 + m5 * a13 + m9 * a14 + m13 * a15;
+    mat[2] = m2 * a0 + m6 * a1 + m10 * a2 + m14 * a3;
+    mat[6] = m2 * a4 + m6 * a5 + m10 * a6 + m14 * a7;
+    mat[10] = m2 * a8 + m6 * a9 + m10 * a10 + m14 * a11;
+    mat[14] = m2 * a12 + m6 * a13 + m10 * a14 + m14 * a15;
+    mat[3] = m3 * a0 + m7 * a1 + m11 * a2 + m15 * a3;
+    mat[7] = m3 * a4 + m7 * a5 + m11 * a6 + m15 * a7;
+    mat[11] = m3 * a8 + m7 * a9 + m11 * a10 + m15 * a11;
+    mat[15] = m3 * a12 + m7 * a13 + m11 * a14 + m15 * a15;
   }
 
   /**
@@ -1017,6 +992,25 @@ public class Mat implements Linkable {
     return target;
   }
 
+  /**
+   * Bulk version of {@link #multiply(float[], float[])} (with a length 3 {@code target}).
+   * Multiplies this matrix by the {@code count} points packed (as {@code x, y, z}
+   * triplets) in {@code source}, starting at point {@code offset} (i.e., at
+   * {@code source[3 * offset]}), and stores the results at the same place in
+   * {@code target}, which may be {@code source} itself. The matrix entries are read once,
+   * and no memory is allocated.
+   */
+  public void multiply(float[] source, float[] target, int offset, int count) {
+    float m0 = mat[0], m1 = mat[1], m2 = mat[2], m4 = mat[4], m5 = mat[5], m6 = mat[6];
+    float m8 = mat[8], m9 = mat[9], m10 = mat[10], m12 = mat[12], m13 = mat[13], m14 = mat[14];
+    for (int i = 3 * offset, end = 3 * (offset + count); i < end; i += 3) {
+      float x = source[i], y = source[i + 1], z = source[i + 2];
+      target[i] = m0 * x + m4 * y + m8 * z + m12;
+      target[i + 1] = m1 * x + m5 * y + m9 * z + m13;
+      target[i + 2] = m2 * x + m6 * y + m10 * z + m14;
+    }
+  }
+
   /**
    * Transpose this matrix.
    */
@@ -1048,57 +1042,7 @@ public class Mat implements Linkable {
    * {@code m} should be non-null.
    */
   public boolean invert(Mat m) {
-    float determinant = determinant();
-    if (determinant == 0) {
-      return false;
-    }
-
-    // first row
-    float t00 = determinant3x3(mat[5], mat[9], mat[13], mat[6], mat[10], mat[14], mat[7], mat[11], mat[15]);
-    float t01 = -determinant3x3(mat[1], mat[9], mat[13], mat[2], mat[10], mat[14], mat[3], mat[11], mat[15]);
-    float t02 = determinant3x3(mat[1], mat[5], mat[13], mat[2], mat[6], mat[14], mat[3], mat[7], mat[15]);
-    float t03 = -determinant3x3(mat[1], mat[5], mat[9], mat[2], mat[6], mat[10], mat[3], mat[7], mat[11]);
-
-    // second row
-    float t10 = -determinant3x3(mat[4], mat[8], mat[12], mat[6], mat[10], mat[14], mat[7], mat[11], mat[15]);
-    float t11 = determinant3x3(mat[0], mat[8], mat[12], mat[2], mat[10], mat[14], mat[3], mat[11], mat[15]);
-    float t12 = -determinant3x3(mat[0], mat[4], mat[12], mat[2], mat[6], mat[14], mat[3], mat[7], mat[15]);
-    float t13 = determinant3x3(mat[0], mat[4], mat[8], mat[2], mat[6], mat[10], mat[3], mat[7], mat[11]);
-
-    // third row
-    float t20 = determinant3x3(mat[4], mat[8], mat[12], mat[5], mat[9], mat[13], mat[7], mat[11], mat[15]);
-    float t21 = -determinant3x3(mat[0], mat[8], mat[12], mat[1], mat[9], mat[13], mat[3], mat[11], mat[15]);
-    float t22 = determinant3x3(mat[0], mat[4], mat[12], mat[1], mat[5], mat[13], mat[3], mat[7], mat[15]);
-    float t23 = -determinant3x3(mat[0], mat[4], mat[8], mat[1], mat[5], mat[9], mat[3], mat[7], mat[11]);
-
-    // fourth row
-    float t30 = -determinant3x3(mat[4], mat[8], mat[12], mat[5], mat[9], mat[13], mat[6], mat[10], mat[14]);
-    float t31 = determinant3x3(mat[0], mat[8], mat[12], mat[1], mat[9], mat[13], mat[2], mat[10], mat[14]);
-    float t32 = -determinant3x3(mat[0], mat[4], mat[12], mat[1], mat[5], mat[13], mat[2], mat[6], mat[14]);
-    float t33 = determinant3x3(mat[0], mat[4], mat[8], mat[1], mat[5], mat[9], mat[2], mat[6], mat[10]);
-
-    // transpose and divide by the determinant
-    m.mat[0] = t00 / determinant;
-    m.mat[4] = t10 / determinant;
-    m.mat[8] = t20 / determinant;
-    m.mat[12] = t30 / determinant;
-
-    m.mat[1] = t01 / determinant;
-    m.mat[5] = t11 / determinant;
-    m.mat[9] = t21 / determinant;
-    m.mat[13] = t31 / determinant;
-
-    m.mat[2] = t02 / determinant;
-    m.mat[6] = t12 / determinant;
-    m.mat[10] = t22 / determinant;
-    m.mat[14] = t32 / determinant;
-
-    m.mat[3] = t03 / determinant;
-    m.mat[7] = t13 / determinant;
-    m.mat[11] = t23 / determinant;
-    m.mat[15] = t33 / determinant;
-
-    return true;
+    return invert(mat, m.mat, false);
   }
 
   /**
@@ -1107,82 +1051,83 @@ public class Mat implements Linkable {
    * @return true if successful
    */
   public boolean invert() {
-    float determinant = determinant();
-    if (Util.zero(determinant)) {
+    return invert(mat, mat, true);
+  }
+
+  /**
+   * Inverts the column-major {@code a} into {@code b} (which may be {@code a} itself) by
+   * cofactor expansion on the 2x2 minors of its first and last two columns (see
+   * {@link #determinant()}), which takes about half the products of expanding each
+   * cofactor as a 3x3 determinant, and a single division. When {@code tolerance} is
+   * {@code true} the matrix is regarded as singular when its determinant is
+   * {@link remixlab.util.Util#zero(float)}.
+   */
+  private static boolean invert(float[] a, float[] b, boolean tolerance) {
+    float a0 = a[0], a1 = a[1], a2 = a[2], a3 = a[3];
+    float a4 = a[4], a5 = a[5], a6 = a[6], a7 = a[7];
+    float a8 = a[8], a9 = a[9], a10 = a[10], a11 = a[11];
+    float a12 = a[12], a13 = a[13], a14 = a[14], a15 = a[15];
+
+    float s0 = a0 * a5 - a4 * a1;
+    float s1 = a0 * a6 - a4 * a2;
+    float s2 = a0 * a7 - a4 * a3;
+    float s3 = a1 * a6 - a5 * a2;
+    float s4 = a1 * a7 - a5 * a3;
+    float s5 = a2 * a7 - a6 * a3;
+
+    float c5 = a10 * a15 - a14 * a11;
+    float c4 = a9 * a15 - a13 * a11;
+    float c3 = a9 * a14 - a13 * a10;
+    float c2 = a8 * a15 - a12 * a11;
+    float c1 = a8 * a14 - a12 * a10;
+    float c0 = a8 * a13 - a12 * a9;
+
+    float determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    if (tolerance ? Util.zero(determinant) : determinant == 0)
       return false;
-    }
+    float inv = 1 / determinant;
 
-    // first row
-    float t00 = determinant3x3(mat[5], mat[9], mat[13], mat[6], mat[10], mat[14], mat[7], mat[11], mat[15]);
-    float t01 = -determinant3x3(mat[1], mat[9], mat[13], mat[2], mat[10], mat[14], mat[3], mat[11], mat[15]);
-    float t02 = determinant3x3(mat[1], mat[5], mat[13], mat[2], mat[6], mat[14], mat[3], mat[7], mat[15]);
-    float t03 = -determinant3x3(mat[1], mat[5], mat[9], mat[2], mat[6], mat[10], mat[3], mat[7], mat[11]);
-
-    // second row
-    float t10 = -determinant3x3(mat[4], mat[8], mat[12], mat[6], mat[10], mat[14], mat[7], mat[11], mat[15]);
-    float t11 = determinant3x3(mat[0], mat[8], mat[12], mat[2], mat[10], mat[14], mat[3], mat[11], mat[15]);
-    float t12 = -determinant3x3(mat[0], mat[4], mat[12], mat[2], mat[6], mat[14], mat[3], mat[7], mat[15]);
-    float t13 = determinant3x3(mat[0], mat[4], mat[8], mat[2], mat[6], mat[10], mat[3], mat[7], mat[11]);
-
-    // third row
-    float t20 = determinant3x3(mat[4], mat[8], mat[12], mat[5], mat[9], mat[13], mat[7], mat[11], mat[15]);
-    float t21 = -determinant3x3(mat[0], mat[8], mat[12], mat[1], mat[9], mat[13], mat[3], mat[11], mat[15]);
-    float t22 = determinant3x3(mat[0], mat[4], mat[12], mat[1], mat[5], mat[13], mat[3], mat[7], mat[15]);
-    float t23 = -determinant3x3(mat[0], mat[4], mat[8], mat[1], mat[5], mat[9], mat[3], mat[7], mat[11]);
-
-    // fourth row
-    float t30 = -determinant3x3(mat[4], mat[8], mat[12], mat[5], mat[9], mat[13], mat[6], mat[10], mat[14]);
-    float t31 = determinant3x3(mat[0], mat[8], mat[12], mat[1], mat[9], mat[13], mat[2], mat[10], mat[14]);
-    float t32 = -determinant3x3(mat[0], mat[4], mat[12], mat[1], mat[5], mat[13], mat[2], mat[6], mat[14]);
-    float t33 = determinant3x3(mat[0], mat[4], mat[8], mat[1], mat[5], mat[9], mat[2], mat[6], mat[10]);
-
-    // transpose and divide by the determinant
-    mat[0] = t00 / determinant;
-    mat[4] = t10 / determinant;
-    mat[8] = t20 / determinant;
-    mat[12] = t30 / determinant;
-
-    mat[1] = t01 / determinant;
-    mat[5] = t11 / determinant;
-    mat[9] = t21 / determinant;
-    mat[13] = t31 / determinant;
-
-    mat[2] = t02 / determinant;
-    mat[6] = t12 / determinant;
-    mat[10] = t22 / determinant;
-    mat[14] = t32 / determinant;
-
-    mat[3] = t03 / determinant;
-    mat[7] = t13 / determinant;
-    mat[11] = t23 / determinant;
-    mat[15] = t33 / determinant;
+    b[0] = (a5 * c5 - a6 * c4 + a7 * c3) * inv;
+    b[1] = (-a1 * c5 + a2 * c4 - a3 * c3) * inv;
+    b[2] = (a13 * s5 - a14 * s4 + a15 * s3) * inv;
+    b[3] = (-a9 * s5 + a10 * s4 - a11 * s3) * inv;
 
-    return true;
-  }
+    b[4] = (-a4 * c5 + a6 * c2 - a7 * c1) * inv;
+    b[5] = (a0 * c5 - a2 * c2 + a3 * c1) * inv;
+    b[6] = (-a12 * s5 + a14 * s2 - a15 * s1) * inv;
+    b[7] = (a8 * s5 - a10 * s2 + a11 * s1) * inv;
 
-  /**
-   * Calculate the determinant of a 3x3 matrix.
-   *
-   * @return result
-   */
-  private float determinant3x3(float t00, float t01, float t02, float t10, float t11, float t12, float t20, float t21,
-                               float t22) {
-    return (t00 * (t11 * t22 - t12 * t21) + t01 * (t12 * t20 - t10 * t22) + t02 * (t10 * t21 - t11 * t20));
+    b[8] = (a4 * c4 - a5 * c2 + a7 * c0) * inv;
+    b[9] = (-a0 * c4 + a1 * c2 - a3 * c0) * inv;
+    b[10] = (a12 * s4 - a13 * s2 + a15 * s0) * inv;
+    b[11] = (-a8 * s4 + a9 * s2 - a11 * s0) * inv;
+
+    b[12] = (-a4 * c3 + a5 * c1 - a6 * c0) * inv;
+    b[13] = (a0 * c3 - a1 * c1 + a2 * c0) * inv;
+    b[14] = (-a12 * s3 + a13 * s1 - a14 * s0) * inv;
+    b[15] = (a8 * s3 - a9 * s1 + a10 * s0) * inv;
+
+    return true;
   }
 
   /**
    * @return the determinant of the matrix
    */
   public float determinant() {
-    float f = mat[0] * ((mat[5] * mat[10] * mat[15] + mat[9] * mat[14] * mat[7] + mat[13] * mat[6] * mat[11])
-        - mat[13] * mat[10] * mat[7] - mat[5] * mat[14] * mat[11] - mat[9] * mat[6] * mat[15]);
-    f -= mat[4] * ((mat[1] * mat[10] * mat[15] + mat[9] * mat[14] * mat[3] + mat[13] * mat[2] * mat[11])
-        - mat[13] * mat[10] * mat[3] - mat[1] * mat[14] * mat[11] - mat[9] * mat[2] * mat[15]);
-    f += mat[8] * ((mat[1] * mat[6] * mat[15] + mat[5] * mat[14] * mat[3] + mat[13] * mat[2] * mat[7])
-        - mat[13] * mat[6] * mat[3] - mat[1] * mat[14] * mat[7] - mat[5] * mat[2] * mat[15]);
-    f -= mat[12] * ((mat[1] * mat[6] * mat[11] + mat[5] * mat[10] * mat[3] + mat[9] * mat[2] * mat[7])
-        - mat[9] * mat[6] * mat[3] - mat[1] * mat[10] * mat[7] - mat[5] * mat[2] * mat[11]);
-    return f;
+    // Laplace expansion on the 2x2 minors of the first and last two columns
+    float s0 = mat[0] * mat[5] - mat[4] * mat[1];
+    float s1 = mat[0] * mat[6] - mat[4] * mat[2];
+    float s2 = mat[0] * mat[7] - mat[4] * mat[3];
+    float s3 = mat[1] * mat[6] - mat[5] * mat[2];
+    float s4 = mat[1] * mat[7] - mat[5] * mat[3];
+    float s5 = mat[2] * mat[7] - mat[6] * mat[3];
+    float c5 = mat[10] * mat[15] - mat[14] * mat[11];
+    float c4 = mat[9] * mat[15] - mat[13] * mat[11];
+    float c3 = mat[9] * mat[14] - mat[13] * mat[10];
+    float c2 = mat[8] * mat[15] - mat[12] * mat[11];
+    float c1 = mat[8] * mat[14] - mat[12] * mat[10];
+    float c0 = mat[8] * mat[13] - mat[12] * mat[9];
+    return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
   }
 
   /**
@@ -10,8 +10,6 @@
 
 package remixlab.dandelion.geom;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
 import remixlab.util.Util;
 
 /**
@@ -24,8 +22,11 @@ import remixlab.util.Util;
 public class Quat implements Linkable, Rotation {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(this.quat[0]).append(this.quat[1]).append(this.quat[2]).append(this.quat[3])
-        .toHashCode();
+    int h = 37 * 17 + Util.hash(quat[0]);
+    h = 37 * h + Util.hash(quat[1]);
+    h = 37 * h + Util.hash(quat[2]);
+    h = 37 * h + Util.hash(quat[3]);
+    return h;
   }
 
   @Override
@@ -38,8 +39,8 @@ public class Quat implements Linkable, Rotation {
       return false;
 
     Quat other = (Quat) obj;
-    return new EqualsBuilder().append(this.quat[0], other.quat[0]).append(this.quat[1], other.quat[1])
-        .append(this.quat[2], other.quat[2]).append(this.quat[3], other.quat[3]).isEquals();
+    return Util.identical(quat[0], other.quat[0]) && Util.identical(quat[1], other.quat[1]) &&
+        Util.identical(quat[2], other.quat[2]) && Util.identical(quat[3], other.quat[3]);
   }
 
   /**
@@ -405,16 +406,12 @@ public class Quat implements Linkable, Rotation {
    * @param q1 the other Quat
    */
   public final void multiply(Quat q1) {
-    float x, y, w;
-
-    w = this.quat[3] * q1.quat[3] - this.quat[0] * q1.quat[0] - this.quat[1] * q1.quat[1] - this.quat[2] * q1.quat[2];
-    x = this.quat[3] * q1.quat[0] + q1.quat[3] * this.quat[0] + this.quat[1] * q1.quat[2] - this.quat[2] * q1.quat[1];
-    y = this.quat[3] * q1.quat[1] + q1.quat[3] * this.quat[1] - this.quat[0] * q1.quat[2] + this.quat[2] * q1.quat[0];
-    this.quat[2] =
-        this.quat[3] * q1.quat[2] + q1.quat[3] * this.quat[2] + this.quat[0] * q1.quat[1] - this.quat[1] * q1.quat[0];
-    this.quat[3] = w;
-    this.quat[0] = x;
-    this.quat[1] = y;
+    float x1 = quat[0], y1 = quat[1], z1 = quat[2], w1 = quat[3];
+    float x2 = q1.quat[0], y2 = q1.quat[1], z2 = q1.quat[2], w2 = q1.quat[3];
+    quat[0] = w1 * x2 + w2 * x1 + y1 * z2 - z1 * y2;
+    quat[1] = w1 * y2 + w2 * y1 - x1 * z2 + z1 * x2;
+    quat[2] = w1 * z2 + w2 * z1 + x1 * y2 - y1 * x2;
+    quat[3] = w1 * w2 - x1 * x2 - y1 * y2 - z1 * z2;
   }
 
   public final static Rotation compose(Rotation q1, Rotation q2) {
@@ -431,12 +428,10 @@ public class Quat implements Linkable, Rotation {
    * @param q2 the second Quat
    */
   public final static Quat multiply(Quat q1, Quat q2) {
-    float x, y, z, w;
-    w = q1.quat[3] * q2.quat[3] - q1.quat[0] * q2.quat[0] - q1.quat[1] * q2.quat[1] - q1.quat[2] * q2.quat[2];
-    x = q1.quat[3] * q2.quat[0] + q2.quat[3] * q1.quat[0] + q1.quat[1] * q2.quat[2] - q1.quat[2] * q2.quat[1];
-    y = q1.quat[3] * q2.quat[1] + q2.quat[3] * q1.quat[1] - q1.quat[0] * q2.quat[2] + q1.quat[2] * q2.quat[0];
-    z = q1.quat[3] * q2.quat[2] + q2.quat[3] * q1.quat[2] + q1.quat[0] * q2.quat[1] - q1.quat[1] * q2.quat[0];
-    return new Quat(x, y, z, w);
+    float x1 = q1.quat[0], y1 = q1.quat[1], z1 = q1.quat[2], w1 = q1.quat[3];
+    float x2 = q2.quat[0], y2 = q2.quat[1], z2 = q2.quat[2], w2 = q2.quat[3];
+    return new Quat(w1 * x2 + w2 * x1 + y1 * z2 - z1 * y2, w1 * y2 + w2 * y1 - x1 * z2 + z1 * x2,
+        w1 * z2 + w2 * z1 + x1 * y2 - y1 * x2, w1 * w2 - x1 * x2 - y1 * y2 - z1 * z2);
   }
 
   /**
@@ -560,22 +555,7 @@ public class Quat implements Linkable, Rotation {
    */
   @Override
   public final Vec rotate(Vec v) {
-    float q00 = 2.0f * this.quat[0] * this.quat[0];
-    float q11 = 2.0f * this.quat[1] * this.quat[1];
-    float q22 = 2.0f * this.quat[2] * this.quat[2];
-
-    float q01 = 2.0f * this.quat[0] * this.quat[1];
-    float q02 = 2.0f * this.quat[0] * this.quat[2];
-    float q03 = 2.0f * this.quat[0] * this.quat[3];
-
-    float q12 = 2.0f * this.quat[1] * this.quat[2];
-    float q13 = 2.0f * this.quat[1] * this.quat[3];
-
-    float q23 = 2.0f * this.quat[2] * this.quat[3];
-
-    return new Vec((1.0f - q11 - q22) * v.vec[0] + (q01 - q23) * v.vec[1] + (q02 + q13) * v.vec[2],
-        (q01 + q23) * v.vec[0] + (1.0f - q22 - q00) * v.vec[1] + (q12 - q03) * v.vec[2],
-        (q02 - q13) * v.vec[0] + (q12 + q03) * v.vec[1] + (1.0f - q11 - q00) * v.vec[2]);
+    return rotate(v, new Vec());
   }
 
   /**
@@ -592,6 +572,69 @@ public class Quat implements Linkable, Rotation {
     return tempQuat.rotate(v);
   }
 
+  /**
+   * Stores the image of {@code v} by the rotation in {@code target} (which may be
+   * {@code v} itself) and returns it. No memory is allocated.
+   */
+  public final Vec rotate(Vec v, Vec target) {
+    return rotate(this.quat[0], this.quat[1], this.quat[2], this.quat[3], v, target);
+  }
+
+  /**
+   * Stores the image of {@code v} by the {@link #inverse()} rotation in {@code target}
+   * (which may be {@code v} itself) and returns it. No memory is allocated.
+   */
+  public final Vec inverseRotate(Vec v, Vec target) {
+    // same as invert(), without allocating the inverse quaternion
+    float sqNorm = squaredNorm(this);
+    return rotate(-this.quat[0] / sqNorm, -this.quat[1] / sqNorm, -this.quat[2] / sqNorm, this.quat[3] / sqNorm, v,
+        target);
+  }
+
+  /**
+   * Bulk version of {@link #rotate(Vec)}. Rotates the {@code count} vectors packed (as
+   * {@code x, y, z} triplets) in {@code in}, starting at vector {@code offset} (i.e., at
+   * {@code in[3 * offset]}), and stores the results at the same place in {@code out},
+   * which may be {@code in} itself. The rotation matrix is computed once, and no memory
+   * is allocated.
+   */
+  public final void rotate(float[] in, float[] out, int offset, int count) {
+    float x = quat[0], y = quat[1], z = quat[2], w = quat[3];
+    float q00 = 2.0f * x * x, q11 = 2.0f * y * y, q22 = 2.0f * z * z;
+    float q01 = 2.0f * x * y, q02 = 2.0f * x * z, q03 = 2.0f * x * w;
+    float q12 = 2.0f * y * z, q13 = 2.0f * y * w, q23 = 2.0f * z * w;
+    float m00 = 1.0f - q11 - q22, m01 = q01 - q23, m02 = q02 + q13;
+    float m10 = q01 + q23, m11 = 1.0f - q22 - q00, m12 = q12 - q03;
+    float m20 = q02 - q13, m21 = q12 + q03, m22 = 1.0f - q11 - q00;
+    for (int i = 3 * offset, end = 3 * (offset + count); i < end; i += 3) {
+      float vx = in[i], vy = in[i + 1], vz = in[i + 2];
+      out[i] = m00 * vx + m01 * vy + m02 * vz;
+      out[i + 1] = m10 * vx + m11 * vy + m12 * vz;
+      out[i + 2] = m20 * vx + m21 * vy + m22 * vz;
+    }
+  }
+
+  protected static Vec rotate(float x, float y, float z, float w, Vec v, Vec target) {
+    float q00 = 2.0f * x * x;
+    float q11 = 2.0f * y * y;
+    float q22 = 2.0f * z * z;
+
+    float q01 = 2.0f * x * y;
+    float q02 = 2.0f * x * z;
+    float q03 = 2.0f * x * w;
+
+    float q12 = 2.0f * y * z;
+    float q13 = 2.0f * y * w;
+
+    float q23 = 2.0f * z * w;
+
+    float vx = v.vec[0], vy = v.vec[1], vz = v.vec[2];
+    target.vec[0] = (1.0f - q11 - q22) * vx + (q01 - q23) * vy + (q02 + q13) * vz;
+    target.vec[1] = (q01 + q23) * vx + (1.0f - q22 - q00) * vy + (q12 - q03) * vz;
+    target.vec[2] = (q02 - q13) * vx + (q12 + q03) * vy + (1.0f - q11 - q00) * vz;
+    return target;
+  }
+
   /**
    * Sets the Quat as a rotation of {@link #axis() axis} and {@link #angle() angle} (in
    * radians).
@@ -10,8 +10,6 @@
 
 package remixlab.dandelion.geom;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
 import remixlab.util.Util;
 
 /**
@@ -20,7 +18,7 @@ import remixlab.util.Util;
 public class Rot implements Rotation {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(this.angle).toHashCode();
+    return 37 * 17 + Util.hash(angle);
   }
 
   @Override
@@ -33,7 +31,7 @@ public class Rot implements Rotation {
       return false;
 
     Rot other = (Rot) obj;
-    return new EqualsBuilder().append(this.angle, other.angle).isEquals();
+    return Util.identical(angle, other.angle);
   }
 
   protected float angle;
@@ -96,6 +94,30 @@ public class Rot implements Rotation {
     return new Vec(((v.x() * cosB) - (v.y() * sinB)), ((v.x() * sinB) + (v.y() * cosB)));
   }
 
+  /**
+   * Stores the image of {@code v} by the rotation in {@code target} (which may be
+   * {@code v} itself) and returns it. No memory is allocated.
+   */
+  public Vec rotate(Vec v, Vec target) {
+    return rotate(angle(), v, target);
+  }
+
+  /**
+   * Stores the image of {@code v} by the {@link #inverse()} rotation in {@code target}
+   * (which may be {@code v} itself) and returns it. No memory is allocated.
+   */
+  public Vec inverseRotate(Vec v, Vec target) {
+    return rotate(-angle(), v, target);
+  }
+
+  protected static Vec rotate(float a, Vec v, Vec target) {
+    float cosB = (float) Math.cos(a);
+    float sinB = (float) Math.sin(a);
+    float vx = v.x(), vy = v.y();
+    target.set((vx * cosB) - (vy * sinB), (vx * sinB) + (vy * cosB), 0);
+    return target;
+  }
+
   @Override
   public Mat matrix() {
     float cosB = (float) Math.cos((double) angle());
@@ -10,8 +10,6 @@
 
 package remixlab.dandelion.geom;
 
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
 import remixlab.util.Util;
 
 /**
@@ -33,7 +31,10 @@ import remixlab.util.Util;
 public class Vec implements Linkable {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(this.vec[0]).append(this.vec[1]).append(this.vec[2]).toHashCode();
+    int h = 37 * 17 + Util.hash(vec[0]);
+    h = 37 * h + Util.hash(vec[1]);
+    h = 37 * h + Util.hash(vec[2]);
+    return h;
   }
 
   @Override
@@ -46,8 +47,8 @@ public class Vec implements Linkable {
       return false;
 
     Vec other = (Vec) obj;
-    return new EqualsBuilder().append(this.vec[0], other.vec[0]).append(this.vec[1], other.vec[1])
-        .append(this.vec[2], other.vec[2]).isEquals();
+    return Util.identical(vec[0], other.vec[0]) && Util.identical(vec[1], other.vec[1]) &&
+        Util.identical(vec[2], other.vec[2]);
   }
 
   /**
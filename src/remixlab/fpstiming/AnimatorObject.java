@@ -42,8 +42,8 @@ public class AnimatorObject implements Animator {
   @Override
   public void setTimingHandler(TimingHandler h) {
     handler = h;
-    handler.registerAnimator(this);
     animationTimer = new SeqTimer(handler);
+    handler.registerAnimator(this);
   }
 
   @Override
@@ -22,6 +22,15 @@ public class SeqTimer implements Timer {
   private long prd;
   private long startTime;
 
+  // timing wheel bookkeeping, see TimingHandler.enableTimingWheel()
+  Animator animator;
+  SeqTimer wheelNext, wheelPrev;
+  int wheelSlot = -1;
+  long wheelDue;
+  boolean wheelFired;
+  // whether its task (or animator) is registered at the handler
+  boolean registered;
+
   /**
    * Defines a single shot sequential (single-threaded) timer.
    *
@@ -98,6 +107,8 @@ public class SeqTimer implements Timer {
     counter = 1;
     active = true;
     startTime = System.currentTimeMillis();
+    if (registered && handler.isTimingWheelEnabled())
+      handler.timingWheel().schedule(this, nextDue());
   }
 
   @Override
@@ -117,11 +128,38 @@ public class SeqTimer implements Timer {
    */
   public void inactivate() {
     active = false;
+    if (wheelSlot >= 0)
+      handler.timingWheel().remove(this);
+  }
+
+  /**
+   * Internal use. Returns the time (in milliseconds) at which the timer is next due.
+   */
+  long nextDue() {
+    return startTime + counter * prd;
+  }
+
+  /**
+   * Internal use. Called by the timing handler when the timer due time is reached on its
+   * wheel. Updates the timer as {@link #trigggered()} does. Returns {@code false} if the
+   * timer was stopped in the meantime.
+   */
+  boolean fire() {
+    if (!active)
+      return false;
+    counter++;
+    wheelFired = true;
+    return true;
   }
 
   /**
    * Returns {@code true} if the timer was triggered at the given frame.
    * <p>
+   * When the handler {@link remixlab.fpstiming.TimingHandler#isTimingWheelEnabled()}
+   * and the timer is registered at it, returns {@code true} if the timer fired during the
+   * last {@link remixlab.fpstiming.TimingHandler#handle()}. Standalone timers are always
+   * checked against the elapsed time.
+   * <p>
    * <b>Note:</b> You should not call this method since it's done by the timing handler
    * (see {@link remixlab.fpstiming.TimingHandler#handle()}).
    */
@@ -129,6 +167,10 @@ public class SeqTimer implements Timer {
     if (!active)
       return false;
 
+    // registered timers handled by a timing wheel are fired by the handler
+    if (registered && handler.isTimingWheelEnabled())
+      return wheelFired;
+
     long elapsedTime = System.currentTimeMillis() - startTime;
 
     float timePerFrame = (1 / handler.frameRate()) * 1000;
@@ -29,6 +29,10 @@ public class TimingHandler {
   // A N I M A T I O N
   protected ArrayList<Animator> aPool;
 
+  // T I M I N G W H E E L
+  protected TimingWheel wheel;
+  protected ArrayList<SeqTimer> fired = new ArrayList<SeqTimer>();
+
   /**
    * Main constructor.
    */
@@ -53,9 +57,17 @@ public class TimingHandler {
    * the following: 1. Recomputes the frame rate; 2. Executes the all timers (those in the
    * {@link #timerPool()}) callback functions; and, 3. Performs all the animated objects
    * (those in the {@link #animatorPool()}) animation functions.
+   * <p>
+   * When {@link #isTimingWheelEnabled()} only the timers that are due are visited.
+   *
+   * @see #enableTimingWheel()
    */
   public void handle() {
     updateFrameRate();
+    if (isTimingWheelEnabled()) {
+      handleWheel();
+      return;
+    }
     for (TimingTask task : tPool)
       if (task.timer() != null)
         if (task.timer() instanceof SeqTimer)
@@ -69,6 +81,90 @@ public class TimingHandler {
             aObj.animate();
   }
 
+  /**
+   * Internal use. Fires all the due timers of the {@link #timingWheel()}, at the frame
+   * which is nearest to their due time.
+   */
+  protected void handleWheel() {
+    for (SeqTimer timer : fired)
+      timer.wheelFired = false;
+    fired.clear();
+    wheel.advance(System.currentTimeMillis() + (long) (500 / frameRate()), fired);
+    for (int i = 0; i < fired.size(); i++) {
+      SeqTimer timer = fired.get(i);
+      // timers of unregistered tasks and animators are dropped from the wheel
+      if (!timer.registered || !timer.fire())
+        continue;
+      // reschedule before executing, so that the callback may stop or re-run the timer
+      if (!timer.isSingleShot())
+        wheel.schedule(timer, timer.nextDue());
+      if (timer.timingTask() != null)
+        timer.timingTask().execute();
+      else if (timer.animator != null && timer.animator.animationStarted())
+        if (!timer.animator.invokeAnimationHandler())
+          timer.animator.animate();
+      if (timer.isSingleShot())
+        timer.inactivate();
+    }
+  }
+
+  /**
+   * Schedules all the active sequential timers on a hierarchical timing wheel. From now
+   * on {@link #handle()} only visits the timers that fire within the frame (instead of
+   * every registered task and animator), and starting, stopping or re-running a timer are
+   * O(1) operations. Useful when there are thousands of timers and animators.
+   *
+   * @see #disableTimingWheel()
+   * @see #isTimingWheelEnabled()
+   */
+  public void enableTimingWheel() {
+    if (isTimingWheelEnabled())
+      return;
+    wheel = new TimingWheel(System.currentTimeMillis());
+    for (TimingTask task : tPool)
+      if (task.timer() instanceof SeqTimer && task.isActive())
+        wheel.schedule((SeqTimer) task.timer(), ((SeqTimer) task.timer()).nextDue());
+    for (Animator aObj : aPool)
+      if (aObj.timer() != null) {
+        aObj.timer().animator = aObj;
+        if (aObj.timer().isActive())
+          wheel.schedule(aObj.timer(), aObj.timer().nextDue());
+      }
+  }
+
+  /**
+   * Restores the default scheduling, in which {@link #handle()} checks every registered
+   * task and animator each frame.
+   *
+   * @see #enableTimingWheel()
+   */
+  public void disableTimingWheel() {
+    if (!isTimingWheelEnabled())
+      return;
+    for (SeqTimer timer : fired)
+      timer.wheelFired = false;
+    fired.clear();
+    wheel.clear();
+    wheel = null;
+  }
+
+  /**
+   * Returns {@code true} if timers are scheduled on a timing wheel.
+   *
+   * @see #enableTimingWheel()
+   */
+  public boolean isTimingWheelEnabled() {
+    return wheel != null;
+  }
+
+  /**
+   * Internal use. Returns the timing wheel, or {@code null} if
+   * {@link #isTimingWheelEnabled()} is {@code false}.
+   */
+  TimingWheel timingWheel() {
+    return wheel;
+  }
+
   /**
    * Returns the timer pool.
    */
@@ -80,8 +176,7 @@ public class TimingHandler {
    * Register a task in the timer pool and creates a sequential timer for it.
    */
   public void registerTask(TimingTask task) {
-    task.setTimer(new SeqTimer(this, task));
-    tPool.add(task);
+    registerTask(task, new SeqTimer(this, task));
   }
 
   /**
@@ -90,6 +185,8 @@ public class TimingHandler {
   public void registerTask(TimingTask task, Timer timer) {
     task.setTimer(timer);
     tPool.add(task);
+    if (timer instanceof SeqTimer)
+      register((SeqTimer) timer);
   }
 
   /**
@@ -98,7 +195,10 @@ public class TimingHandler {
    * @see #unregisterTask(TimingTask)
    */
   public void unregisterTask(SeqTimer t) {
-    tPool.remove(t.timingTask());
+    if (t.timingTask() instanceof TimingTask)
+      unregisterTask((TimingTask) t.timingTask());
+    else
+      unregister(t);
   }
 
   /**
@@ -108,6 +208,28 @@ public class TimingHandler {
    */
   public void unregisterTask(TimingTask task) {
     tPool.remove(task);
+    if (task.timer() instanceof SeqTimer)
+      unregister((SeqTimer) task.timer());
+  }
+
+  /**
+   * Internal use. Flags the timer as registered, and schedules it on the
+   * {@link #timingWheel()} if it's active.
+   */
+  protected void register(SeqTimer timer) {
+    timer.registered = true;
+    if (isTimingWheelEnabled() && timer.isActive())
+      wheel.schedule(timer, timer.nextDue());
+  }
+
+  /**
+   * Internal use. Flags the timer as unregistered and takes it out of the
+   * {@link #timingWheel()}, so that it isn't fired anymore.
+   */
+  protected void unregister(SeqTimer timer) {
+    timer.registered = false;
+    if (isTimingWheelEnabled())
+      wheel.remove(timer);
   }
 
   /**
@@ -166,6 +288,7 @@ public class TimingHandler {
       }
       task.stop();
       task.setTimer(new SeqTimer(this, task));
+      ((SeqTimer) task.timer()).registered = true;
       if (isActive) {
         if (rOnce)
           task.runOnce(period);
@@ -193,12 +316,20 @@ public class TimingHandler {
     if (object.timingHandler() != this)
       object.setTimingHandler(this);
     aPool.add(object);
+    if (object.timer() != null) {
+      object.timer().animator = object;
+      register(object.timer());
+    }
   }
 
   /**
    * Unregisters the animation object.
    */
   public void unregisterAnimator(Animator object) {
+    if (object.timer() != null && object.timer().animator == object) {
+      object.timer().animator = null;
+      unregister(object.timer());
+    }
     aPool.remove(object);
   }
 
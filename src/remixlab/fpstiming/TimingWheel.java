@@ -0,0 +1,158 @@
+/**************************************************************************************
+ * fpstiming_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.fpstiming;
+
+import java.util.ArrayList;
+
+/**
+ * Hierarchical timing wheel used by the {@link remixlab.fpstiming.TimingHandler} when
+ * {@link remixlab.fpstiming.TimingHandler#isTimingWheelEnabled()}.
+ * <p>
+ * The wheel has {@link #LEVELS} levels of {@link #SLOTS} slots each, with a one
+ * millisecond tick. A timer due {@code d} milliseconds ahead is hashed into the lowest
+ * level able to hold it, and it is cascaded down to finer levels as time approaches its
+ * due time. Scheduled timers are kept in intrusive doubly linked lists (see the
+ * {@code wheel*} fields of {@link remixlab.fpstiming.SeqTimer}), so scheduling and
+ * cancelling are O(1) and allocation free, while advancing the wheel only touches the
+ * timers that actually fire (or cascade).
+ */
+class TimingWheel {
+  static final int BITS = 6;
+  static final int SLOTS = 1 << BITS;
+  static final int MASK = SLOTS - 1;
+  static final int LEVELS = 4;
+  // farthest due time a timer may be hashed to, beyond it timers are re-hashed
+  static final long SPAN = (1L << (BITS * LEVELS)) - 1;
+
+  SeqTimer[] slots = new SeqTimer[LEVELS * SLOTS];
+  long time;
+  int size;
+
+  TimingWheel(long now) {
+    time = now;
+  }
+
+  /**
+   * Returns the number of scheduled timers.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * (Re)schedules {@code timer} to fire at {@code due} (in milliseconds).
+   */
+  void schedule(SeqTimer timer, long due) {
+    remove(timer);
+    timer.wheelDue = Math.max(due, time + 1);
+    insert(timer);
+    size++;
+  }
+
+  /**
+   * Removes {@code timer} from the wheel. Does nothing if it is not scheduled.
+   */
+  void remove(SeqTimer timer) {
+    if (timer.wheelSlot < 0)
+      return;
+    unlink(timer);
+    size--;
+  }
+
+  /**
+   * Advances the wheel up to {@code target} (in milliseconds), appending to
+   * {@code fired} (in due order) all the timers which due time was reached. Fired timers
+   * are removed from the wheel.
+   */
+  void advance(long target, ArrayList<SeqTimer> fired) {
+    if (size == 0) {
+      if (target > time)
+        time = target;
+      return;
+    }
+    while (time < target && size > 0) {
+      time++;
+      for (int level = 1; level < LEVELS; level++) {
+        if ((time & ((1L << (BITS * level)) - 1)) != 0)
+          break;
+        cascade(level, (int) ((time >>> (BITS * level)) & MASK));
+      }
+      int index = (int) (time & MASK);
+      SeqTimer timer = slots[index];
+      while (timer != null) {
+        SeqTimer next = timer.wheelNext;
+        unlink(timer);
+        size--;
+        fired.add(timer);
+        timer = next;
+      }
+    }
+    if (target > time)
+      time = target;
+  }
+
+  /**
+   * Removes all the timers from the wheel.
+   */
+  void clear() {
+    for (int i = 0; i < slots.length; i++) {
+      SeqTimer timer = slots[i];
+      while (timer != null) {
+        SeqTimer next = timer.wheelNext;
+        timer.wheelNext = timer.wheelPrev = null;
+        timer.wheelSlot = -1;
+        timer = next;
+      }
+      slots[i] = null;
+    }
+    size = 0;
+  }
+
+  protected void cascade(int level, int slot) {
+    int index = level * SLOTS + slot;
+    SeqTimer timer = slots[index];
+    slots[index] = null;
+    while (timer != null) {
+      SeqTimer next = timer.wheelNext;
+      timer.wheelNext = timer.wheelPrev = null;
+      timer.wheelSlot = -1;
+      insert(timer);
+      timer = next;
+    }
+  }
+
+  protected void insert(SeqTimer timer) {
+    long due = Math.min(timer.wheelDue, time + SPAN);
+    long delta = due - time;
+    int level = 0;
+    while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1))))
+      level++;
+    int index = level * SLOTS + (int) ((due >>> (BITS * level)) & MASK);
+    SeqTimer head = slots[index];
+    timer.wheelPrev = null;
+    timer.wheelNext = head;
+    if (head != null)
+      head.wheelPrev = timer;
+    slots[index] = timer;
+    timer.wheelSlot = index;
+  }
+
+  protected void unlink(SeqTimer timer) {
+    if (timer.wheelPrev != null)
+      timer.wheelPrev.wheelNext = timer.wheelNext;
+    else
+      slots[timer.wheelSlot] = timer.wheelNext;
+    if (timer.wheelNext != null)
+      timer.wheelNext.wheelPrev = timer.wheelPrev;
+    timer.wheelNext = timer.wheelPrev = null;
+    timer.wheelSlot = -1;
+  }
+}
@@ -0,0 +1,270 @@
+/**************************************************************************************
+ * ProScene (version 3.0.0)
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive scenes
+ * in Processing, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.proscene;
+
+import remixlab.bias.core.Agent;
+import remixlab.bias.core.BogusEvent;
+import remixlab.bias.core.EventTupleQueue;
+import remixlab.bias.core.InputHandler;
+import remixlab.bias.event.MotionEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An {@link remixlab.bias.core.Agent} which events may be published from any thread, such
+ * as the threads polling an HID device, listening to a tracker over UDP or reading a
+ * serial port.
+ * <p>
+ * Producer threads {@link #publish(BogusEvent)} events into a bounded lock-free
+ * multi-producer single-consumer ring buffer, while the draw thread drains them in
+ * batches of up to {@link #batchSize()} events per frame (see {@link #pollEvents()}),
+ * never more than the input handler event tuple queue has room for,
+ * calling {@link #updateTrackedGrabber(BogusEvent)} (only for events published with
+ * {@code track} set) and {@link #handle(BogusEvent)} on each of them. Published events
+ * are owned by the agent, so producers shouldn't modify them afterwards. Recycled events
+ * (see {@link remixlab.bias.event.DOF6Event#obtain()}) may be published to avoid
+ * generating garbage.
+ * <p>
+ * When the ring buffer is full the agent applies its {@link #policy()}.
+ */
+public class ConcurrentAgent extends Agent {
+  /**
+   * What to do when the ring buffer is full, or when draining it.
+   */
+  public enum Policy {
+    /**
+     * Back-pressure: the producer thread yields until the draw thread makes room for the
+     * event. Events published from the draw thread itself (which is the one that would
+     * make room) are dropped instead.
+     */
+    BLOCK,
+    /**
+     * The event is dropped (see {@link ConcurrentAgent#droppedEvents()}).
+     */
+    DROP,
+    /**
+     * Same as {@code DROP}, but consecutive motion events are coalesced when they're
+     * drained (see {@link remixlab.bias.event.MotionEvent#coalesce(MotionEvent)}).
+     */
+    COALESCE
+  }
+
+  protected Scene scene;
+  protected volatile Policy policy = Policy.DROP;
+  protected int batch;
+
+  // Vyukov's bounded queue: each slot sequence tells producers and the consumer whether
+  // the slot is free for the position they're at
+  protected BogusEvent[] events;
+  protected boolean[] tracks;
+  protected AtomicLongArray sequence;
+  protected AtomicLong tail = new AtomicLong();
+  protected long head;
+  protected int mask;
+  protected AtomicLong drops = new AtomicLong();
+  // the thread draining the ring buffer, see pollEvents()
+  protected volatile Thread consumer;
+
+  /**
+   * Same as {@code this(scn, 1024)}.
+   */
+  public ConcurrentAgent(Scene scn) {
+    this(scn, 1024);
+  }
+
+  /**
+   * Constructs the agent and registers it at the scene
+   * {@link remixlab.dandelion.core.AbstractScene#inputHandler()}. The ring buffer holds
+   * up to {@code capacity} events (rounded up to a power of two).
+   */
+  public ConcurrentAgent(Scene scn, int capacity) {
+    this(scn.inputHandler(), capacity);
+    scene = scn;
+  }
+
+  /**
+   * Constructs the agent and registers it at the given input handler. The ring buffer
+   * holds up to {@code capacity} events (rounded up to a power of two).
+   */
+  public ConcurrentAgent(InputHandler inputHandler, int capacity) {
+    super(inputHandler);
+    int size = 2;
+    while (size < capacity)
+      size <<= 1;
+    events = new BogusEvent[size];
+    tracks = new boolean[size];
+    sequence = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++)
+      sequence.set(i, i);
+    mask = size - 1;
+    batch = size;
+  }
+
+  /**
+   * Returns the scene this agent belongs to, or null if it was instantiated from an
+   * input handler.
+   */
+  public Scene scene() {
+    return scene;
+  }
+
+  /**
+   * Returns the ring buffer capacity.
+   */
+  public int capacity() {
+    return events.length;
+  }
+
+  /**
+   * Returns the policy applied when the ring buffer is full. Default is
+   * {@link Policy#DROP}.
+   */
+  public Policy policy() {
+    return policy;
+  }
+
+  /**
+   * Sets the {@link #policy()}.
+   */
+  public void setPolicy(Policy p) {
+    policy = p;
+  }
+
+  /**
+   * Returns the maximum number of events drained per frame. Default is
+   * {@link #capacity()}.
+   */
+  public int batchSize() {
+    return batch;
+  }
+
+  /**
+   * Sets the {@link #batchSize()}. Events exceeding it are left in the ring buffer to be
+   * drained the next frame.
+   */
+  public void setBatchSize(int size) {
+    batch = Math.max(size, 1);
+  }
+
+  /**
+   * Returns the number of events dropped so far because the ring buffer was full (see
+   * {@link #policy()}).
+   */
+  public long droppedEvents() {
+    return drops.get();
+  }
+
+  /**
+   * Same as {@code return publish(event, false)}.
+   *
+   * @see #publish(BogusEvent, boolean)
+   */
+  public boolean publish(BogusEvent event) {
+    return publish(event, false);
+  }
+
+  /**
+   * Publishes the event so that it gets handled at the next frame. If {@code track} is
+   * {@code true}, the event is also used to {@link #updateTrackedGrabber(BogusEvent)}.
+   * May be called from any thread.
+   * <p>
+   * Returns {@code false} if the event was dropped (and released) because the ring buffer
+   * is full, and the {@link #policy()} isn't {@link Policy#BLOCK} or the event is
+   * published from the draw thread.
+   */
+  public boolean publish(BogusEvent event, boolean track) {
+    if (event == null)
+      return false;
+    while (!offer(event, track)) {
+      // blocking the draw thread would wait forever for it to drain the ring buffer
+      if (policy != Policy.BLOCK || Thread.currentThread() == consumer) {
+        drops.incrementAndGet();
+        event.release();
+        return false;
+      }
+      Thread.yield();
+    }
+    return true;
+  }
+
+  protected boolean offer(BogusEvent event, boolean track) {
+    long pos = tail.get();
+    int index;
+    for (; ; ) {
+      index = (int) pos & mask;
+      long dif = sequence.get(index) - pos;
+      if (dif == 0) {
+        if (tail.compareAndSet(pos, pos + 1))
+          break;
+        pos = tail.get();
+      } else if (dif < 0)
+        return false;
+      else
+        pos = tail.get();
+    }
+    events[index] = event;
+    tracks[index] = track;
+    // publishes the slot (together with the writes above) to the consumer
+    sequence.lazySet(index, pos + 1);
+    return true;
+  }
+
+  /**
+   * Drains up to {@link #batchSize()} published events, calling
+   * {@link #updateTrackedGrabber(BogusEvent)} (on events published with {@code track}
+   * set) and {@link #handle(BogusEvent)} on each of them. Automatically called by the main
+   * event loop ({@link remixlab.bias.core.InputHandler#handle()}).
+   * <p>
+   * No more events than the room left in the
+   * {@link remixlab.bias.core.InputHandler#eventTupleQueue()} are drained, so that the
+   * rest remain in the ring buffer (where the {@link #policy()} applies) until the next
+   * frame.
+   */
+  @Override
+  protected void pollEvents() {
+    consumer = Thread.currentThread();
+    EventTupleQueue queue = inputHandler().eventTupleQueue();
+    int count = Math.min(batch, queue.capacity() - queue.size());
+    boolean coalesce = policy == Policy.COALESCE;
+    BogusEvent pending = null;
+    boolean pendingTrack = false;
+    for (int i = 0; i < count; i++) {
+      int index = (int) head & mask;
+      if (sequence.get(index) != head + 1)
+        break;
+      BogusEvent event = events[index];
+      boolean track = tracks[index];
+      events[index] = null;
+      // frees the slot for producers one lap ahead
+      sequence.lazySet(index, head + events.length);
+      head++;
+      if (coalesce && pending instanceof MotionEvent && event instanceof MotionEvent)
+        if (((MotionEvent) pending).coalesce((MotionEvent) event)) {
+          pendingTrack |= track;
+          event.release();
+          continue;
+        }
+      if (pending != null)
+        dispatch(pending, pendingTrack);
+      pending = event;
+      pendingTrack = track;
+    }
+    if (pending != null)
+      dispatch(pending, pendingTrack);
+  }
+
+  protected void dispatch(BogusEvent event, boolean track) {
+    if (track)
+      updateTrackedGrabber(event);
+    handle(event);
+  }
+}
@@ -0,0 +1,24 @@
+/**************************************************************************************
+ * ProScene (version 3.0.0)
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive scenes
+ * in Processing, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.proscene;
+
+import processing.core.PGraphics;
+
+/**
+ * Interface used to define an {@link remixlab.proscene.InteractiveFrame} immediate mode
+ * shape without reflection, see {@link remixlab.proscene.InteractiveFrame#setShape(Drawable)}.
+ */
+public interface Drawable {
+  /**
+   * Draws the shape into {@code pg}, using the frame coordinate system.
+   */
+  public void draw(PGraphics pg);
+}
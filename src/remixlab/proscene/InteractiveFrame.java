@@ -33,10 +33,10 @@ import remixlab.dandelion.core.Eye;
 import remixlab.dandelion.core.GenericFrame;
 import remixlab.dandelion.geom.Frame;
 import remixlab.dandelion.geom.Vec;
-import remixlab.util.EqualsBuilder;
-import remixlab.util.HashCodeBuilder;
+import remixlab.util.Reflection;
 
 import java.lang.reflect.Method;
+import java.util.HashMap;
 
 /**
  * A Processing {@link remixlab.dandelion.core.GenericFrame} with a {@link remixlab.bias.ext.Profile}
@@ -81,7 +81,10 @@ public class InteractiveFrame extends GenericFrame {
   // profile
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).appendSuper(super.hashCode()).append(fShape).append(pShape).toHashCode();
+    int h = 37 * 17 + super.hashCode();
+    h = 37 * h + (fShape == null ? 0 : fShape.hashCode());
+    h = 37 * h + (pShape == null ? 0 : pShape.hashCode());
+    return h;
   }
 
   @Override
@@ -94,8 +97,8 @@ public class InteractiveFrame extends GenericFrame {
       return false;
 
     InteractiveFrame other = (InteractiveFrame) obj;
-    return new EqualsBuilder().appendSuper(super.equals(obj)).append(fShape, other.fShape).append(pShape, other.pShape)
-        .isEquals();
+    return super.equals(obj) && (fShape == null ? other.fShape == null : fShape.equals(other.fShape)) &&
+        (pShape == null ? other.pShape == null : pShape.equals(other.pShape));
   }
 
   /**
@@ -116,6 +119,21 @@ public class InteractiveFrame extends GenericFrame {
 
   HighlightingMode highlight;
 
+  /**
+   * Picking condition of a given event class, see {@link #checkIfGrabsInput(BogusEvent)}.
+   */
+  protected static class PickingCondition {
+    // context class the condition was resolved against
+    Class<?> context;
+    // null when the frame condition is dispatched directly (or when there's none)
+    Method method;
+    boolean frameParam, direct;
+  }
+
+  // picking conditions: frame class -> event class -> condition
+  protected static HashMap<Class<?>, HashMap<Class<?>, PickingCondition>> pickingConditions =
+      new HashMap<Class<?>, HashMap<Class<?>, PickingCondition>>();
+
   /**
    * Calls {@code super(eye)}, add the {@link #drawEye(PGraphics)} graphics handler,
    * creates the frame {@link remixlab.bias.ext.Profile} and calls {@link #setDefaultMouseBindings()} and
@@ -1011,9 +1029,9 @@ public class InteractiveFrame extends GenericFrame {
   @Override
   public void setPickingPrecision(PickingPrecision precision) {
     if (precision == PickingPrecision.EXACT)
-      if (!scene().isPickingBufferEnabled())
-        System.out
-            .println("Warning: EXACT picking precision will behave like FIXED until the scene.pickingBuffer() is enabled.");
+      if (!scene().isPickingBufferEnabled() && !scene().isRayCastPickingEnabled())
+        System.out.println(
+            "Warning: EXACT picking precision will behave like FIXED until the scene.pickingBuffer() or the scene ray cast picking is enabled.");
     pkgnPrecision = precision;
     if (isEyeFrame()) {
       AbstractScene.showOnlyEyeWarning("setPickingPrecision", false);
@@ -1064,27 +1082,16 @@ public class InteractiveFrame extends GenericFrame {
    */
   @Override
   public boolean checkIfGrabsInput(BogusEvent event) {
-    Method mth = null;
-    Object obj = scene().pApplet();
-    boolean frameParam = false;
-    // 1. Retrieving
-    try {
-      mth = obj.getClass().getMethod("checkIfGrabsInput", new Class<?>[]{InteractiveFrame.class, event.getClass()});
-      frameParam = true;
-    } catch (Exception e1) {
-      obj = this;
-      try {
-        mth = obj.getClass().getMethod("checkIfGrabsInput", new Class<?>[]{event.getClass()});
-      } catch (Exception e2) {
-        PApplet.println("Error: no picking condition for " + event.getClass().getName());
-      }
-    }
-    // 2. Invocation
+    PickingCondition condition = pickingCondition(event.getClass());
+    if (condition.direct)
+      return super.checkIfGrabsInput(event);
+    if (condition.method == null)
+      return false;
     try {
-      if (frameParam)
-        return (boolean) mth.invoke(obj, new Object[]{this, event});
+      if (condition.frameParam)
+        return (Boolean) condition.method.invoke(scene().pApplet(), this, event);
       else
-        return (boolean) mth.invoke(obj, new Object[]{event});
+        return (Boolean) condition.method.invoke(this, event);
     } catch (Exception e) {
       PApplet.println("Error: no picking condition found");
       e.printStackTrace();
@@ -1092,6 +1099,54 @@ public class InteractiveFrame extends GenericFrame {
     return false;
   }
 
+  /**
+   * Internal use. Returns the picking condition of this frame class for the given event
+   * class (see {@link #checkIfGrabsInput(BogusEvent)}). Conditions are resolved once per
+   * (frame class, event class) pair and then cached, so that the reflective method
+   * lookups don't take place at each event.
+   * <p>
+   * When the condition lies at the frame and the event class is one of those handled by
+   * {@link remixlab.dandelion.core.GenericFrame#checkIfGrabsInput(BogusEvent)}, the
+   * condition is dispatched directly (i.e., with no reflection at all).
+   */
+  protected PickingCondition pickingCondition(Class<?> eventClass) {
+    Class<?> context = scene().pApplet().getClass();
+    HashMap<Class<?>, PickingCondition> conditions = pickingConditions.get(getClass());
+    if (conditions == null) {
+      conditions = new HashMap<Class<?>, PickingCondition>();
+      pickingConditions.put(getClass(), conditions);
+    }
+    PickingCondition condition = conditions.get(eventClass);
+    if (condition != null && condition.context == context)
+      return condition;
+    condition = new PickingCondition();
+    condition.context = context;
+    // 1. At the context
+    try {
+      condition.method = context.getMethod("checkIfGrabsInput", new Class<?>[]{InteractiveFrame.class, eventClass});
+      condition.frameParam = true;
+    } catch (Exception e1) {
+      // 2. At the frame
+      try {
+        condition.method = getClass().getMethod("checkIfGrabsInput", new Class<?>[]{eventClass});
+        try {
+          GenericFrame.class.getMethod("checkIfGrabsInput", new Class<?>[]{eventClass});
+          // GenericFrame.checkIfGrabsInput(BogusEvent) dispatches to it (or its override)
+          condition.direct = true;
+          condition.method = null;
+        } catch (Exception e2) {
+          // custom event condition
+        }
+      } catch (Exception e3) {
+        PApplet.println("Error: no picking condition for " + eventClass.getName());
+      }
+    }
+    if (condition.method != null)
+      Reflection.setAccessible(condition.method);
+    conditions.put(eventClass, condition);
+    return condition;
+  }
+
   /**
    * An interactive-frame may be picked using
    * <a href="http://schabby.de/picking-opengl-ray-tracing/">'ray-picking'</a> with a
@@ -1100,10 +1155,16 @@ public class InteractiveFrame extends GenericFrame {
    * {@code (x,y)} with {@link #id()}. Returns true if both colors are the same, and false
    * otherwise.
    * <p>
+   * When the scene {@link remixlab.proscene.Scene#isRayCastPickingEnabled()} and the
+   * picking shape is a PShape, the frame is instead picked on the CPU: it grabs input if
+   * it's the nearest frame hit by the ray cast from {@code (x,y)} (see
+   * {@link remixlab.proscene.Scene#rayCast(float, float)}).
+   * <p>
    * This method is only meaningful when {@link #isEyeFrame()} returns false.
    *
    * @see #setPickingPrecision(PickingPrecision)
    * @see #isEyeFrame()
+   * @see #rayCast(Vec, Vec)
    */
   @Override
   public final boolean checkIfGrabsInput(float x, float y) {
@@ -1111,12 +1172,34 @@ public class InteractiveFrame extends GenericFrame {
       AbstractScene.showOnlyEyeWarning("checkIfGrabsInput", false);
       return false;
     }
-    if (pickingPrecision() != PickingPrecision.EXACT || pShape.isReset() || !scene().isPickingBufferEnabled())
+    if (pickingPrecision() != PickingPrecision.EXACT || pShape.isReset())
       return super.checkIfGrabsInput(x, y);
-    int index = (int) y * gScene.width() + (int) x;
-    if ((0 <= index) && (index < scene().pickingBuffer().pixels.length))
-      return scene().pickingBuffer().pixels[index] == id();
-    return false;
+    if (scene().isRayCastPickingEnabled() && pShape.isRetained())
+      return scene().rayCastPick(x, y) == this;
+    if (!scene().isPickingBufferEnabled())
+      return super.checkIfGrabsInput(x, y);
+    return scene().pickingBufferPixel(x, y) == id();
+  }
+
+  /**
+   * Casts the ray defined by {@code origin} and {@code direction} (in world coordinates)
+   * against the triangles of the picking shape (see {@link #setPickingShape(PShape)}),
+   * and returns the parameter {@code t} of the nearest hit point
+   * {@code origin + t * direction}, or -1 if the ray misses the shape.
+   * <p>
+   * The shape triangles are kept in a bounding volume hierarchy which is built at the
+   * first call, so that the cost of the query is roughly logarithmic in the number of
+   * triangles. The hierarchy is built again when the shape is set, but not when the
+   * PShape vertices are modified. Returns -1 if the picking shape isn't a PShape.
+   *
+   * @see remixlab.proscene.Scene#rayCast(float, float)
+   */
+  public float rayCast(Vec origin, Vec direction) {
+    if (isEyeFrame() || !pShape.isRetained())
+      return -1;
+    // t is preserved by the affine world to frame conversion
+    Vec o = coordinatesOf(origin), d = transformOf(direction);
+    return pShape.rayCast(o.vec, d.vec);
   }
 
   /**
@@ -1225,6 +1308,7 @@ public class InteractiveFrame extends GenericFrame {
    * Internal cache optimization method.
    */
   protected void updatePickingBufferCache() {
+    scene().invalidatePickingBuffer();
     if (!isEyeFrame() && pickingPrecision() == PickingPrecision.EXACT && !pShape.isReset()) {
       scene().unchachedBuffer = true;
       return;
@@ -1645,6 +1729,56 @@ public class InteractiveFrame extends GenericFrame {
       updatePickingBufferCache();
   }
 
+  /**
+   * Same as {@code setFrontShape(drawable); setPickingShape(drawable);}.
+   *
+   * @see #setShape(PShape)
+   * @see #setShape(Object, String)
+   * @see #setFrontShape(Drawable)
+   * @see #setPickingShape(Drawable)
+   * @see #resetShape()
+   * @see #isShapeReset()
+   */
+  public void setShape(Drawable drawable) {
+    setFrontShape(drawable);
+    setPickingShape(drawable);
+  }
+
+  /**
+   * Immediate mode rendering of the front shape using the given {@code drawable}, which
+   * {@link remixlab.proscene.Drawable#draw(PGraphics)} is called directly, i.e., without
+   * any reflection (as it's the case when the shape is set from a method name, see
+   * {@link #setFrontShape(Object, String)}).
+   *
+   * @see #setShape(Drawable)
+   * @see #setFrontShape(PShape)
+   * @see #setFrontShape(Object, String)
+   * @see #setPickingShape(Drawable)
+   * @see #resetFrontShape()
+   * @see #isShapeReset()
+   */
+  public void setFrontShape(Drawable drawable) {
+    fShape.set(drawable);
+  }
+
+  /**
+   * Immediate mode rendering of the picking shape using the given {@code drawable}, which
+   * {@link remixlab.proscene.Drawable#draw(PGraphics)} is called directly, i.e., without
+   * any reflection (as it's the case when the shape is set from a method name, see
+   * {@link #setPickingShape(Object, String)}).
+   *
+   * @see #setShape(Drawable)
+   * @see #setPickingShape(PShape)
+   * @see #setPickingShape(Object, String)
+   * @see #setFrontShape(Drawable)
+   * @see #resetPickingShape()
+   * @see #isShapeReset()
+   */
+  public void setPickingShape(Drawable drawable) {
+    pShape.set(drawable);
+    updatePickingBufferCache();
+  }
+
   /**
    * @deprecated use {@link #setShape(Object, String)}.
    */
@@ -96,23 +96,29 @@ public class KeyAgent extends Agent {
     press = e.getAction() == processing.event.KeyEvent.PRESS;
     release = e.getAction() == processing.event.KeyEvent.RELEASE;
     type = e.getAction() == processing.event.KeyEvent.TYPE;
-    currentEvent = type ?
-        (new KeyboardEvent(e.getKey())).fire() :
-        press ?
-            (new KeyboardEvent(e.getModifiers(), e.getKeyCode())).fire() :
-            (new KeyboardEvent(e.getModifiers(), e.getKeyCode())).flush();
+    KeyboardEvent event = type ?
+        KeyboardEvent.obtain().set(e.getKey()) :
+        KeyboardEvent.obtain().set(e.getModifiers(), e.getKeyCode());
+    KeyboardEvent pooled = release ? event.flush() : event.fire();
+    event.release();
+    // pooled events are recycled once handled, so currentEvent is kept as a (reused) copy
+    currentEvent = currentEvent == null ? pooled.get() : currentEvent.set(pooled);
+    boolean handled = false;
     if (press) {
       bypass = updateTrackedGrabber(currentEvent) != null;
       if (bypass)
-        handle(currentEvent);
+        handled = handle(pooled);
     }
     if (type && !bypass) {
       // if(updateTrackedGrabber(currentEvent) != null)
       // handle(currentEvent);
       bypass = updateTrackedGrabber(currentEvent) != null;
       if (bypass)
-        handle(currentEvent);
+        handled = handle(pooled);
     }
+    // pooled events which are not handled are recycled right away
+    if (!handled)
+      pooled.release();
     if (release)
       resetTrackedGrabber();
     // debug
@@ -32,6 +32,7 @@ public class MouseAgent extends Agent {
       .registerID(RIGHT_ID, "RIGHT"), CENTER_CLICK_ID = ClickShortcut.registerID(CENTER_ID, "CENTER");
   protected float xSens = 1f;
   protected float ySens = 1f;
+  protected float[] dof2Sens = {1f, 1f, 1f, 1f, 1f, 1f};
   protected Scene scene;
   protected DOF2Event currentEvent, prevEvent;
   protected boolean move, press, drag, release;
@@ -90,21 +91,28 @@ public class MouseAgent extends Agent {
     drag = e.getAction() == processing.event.MouseEvent.DRAG;
     release = e.getAction() == processing.event.MouseEvent.RELEASE;
     if (move || press || drag || release) {
-      currentEvent = new DOF2Event(prevEvent, e.getX() - scene.originCorner().x(), e.getY() - scene.originCorner().y(),
-          e.getModifiers(), move ? BogusEvent.NO_ID : e.getButton());
+      // events are recycled from the DOF2Event pool, while currentEvent and prevEvent are
+      // kept as (reused) copies
+      DOF2Event event = DOF2Event.obtain().set(prevEvent, e.getX() - scene.originCorner().x(),
+          e.getY() - scene.originCorner().y(), e.getModifiers(), move ? BogusEvent.NO_ID : e.getButton());
+      currentEvent = currentEvent == null ? event.get() : currentEvent.set(event);
+      prevEvent = prevEvent == null ? event.get() : prevEvent.set(event);
       if (move && (pickingMode() == PickingMode.MOVE))
         updateTrackedGrabber(currentEvent);
-      handle(press ? currentEvent.fire() : release ? currentEvent.flush() : currentEvent);
-      prevEvent = currentEvent.get();
+      if (press || release) {
+        handle(press ? event.fire() : event.flush());
+        event.release();
+      } else
+        handle(event);
       return;
     }
     if (e.getAction() == processing.event.MouseEvent.WHEEL) {
-      handle(new DOF1Event(e.getCount(), e.getModifiers(), WHEEL_ID));
+      handle(DOF1Event.obtain().set(e.getCount(), e.getModifiers(), WHEEL_ID));
       return;
     }
     if (e.getAction() == processing.event.MouseEvent.CLICK) {
-      ClickEvent bogusClickEvent = new ClickEvent(e.getX() - scene.originCorner().x(), e.getY() - scene.originCorner().y(),
-          e.getModifiers(), e.getButton(), e.getCount());
+      ClickEvent bogusClickEvent = ClickEvent.obtain().set(e.getX() - scene.originCorner().x(),
+          e.getY() - scene.originCorner().y(), e.getModifiers(), e.getButton(), e.getCount());
       if (pickingMode() == PickingMode.CLICK)
         updateTrackedGrabber(bogusClickEvent);
       handle(bogusClickEvent);
@@ -114,9 +122,11 @@ public class MouseAgent extends Agent {
 
   @Override
   public float[] sensitivities(MotionEvent event) {
-    if (event instanceof DOF2Event)
-      return new float[]{xSens, ySens, 1f, 1f, 1f, 1f};
-    else
+    if (event instanceof DOF2Event) {
+      dof2Sens[0] = xSens;
+      dof2Sens[1] = ySens;
+      return dof2Sens;
+    } else
       return super.sensitivities(event);
   }
 
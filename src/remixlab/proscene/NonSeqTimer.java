@@ -13,17 +13,35 @@ package remixlab.proscene;
 import remixlab.fpstiming.Taskable;
 import remixlab.fpstiming.Timer;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
- * Non-seq timer based on java.util.Timer and java.util.TimerTask.
+ * Non-seq timer based on a single {@code java.util.concurrent.ScheduledExecutorService}
+ * shared by all timers (and scenes), which is sized to the number of available cores.
+ * <p>
+ * Pool threads only measure time: when the timer goes off it is posted to its scene,
+ * which executes the callbacks of all posted timers in a batch on the draw thread (see
+ * {@link Scene#postDraw()}). A timer that goes off several times in between two frames
+ * has its callback executed only once.
  */
 class NonSeqTimer implements Timer {
+  private static ScheduledExecutorService executor;
+
   Scene scene;
-  java.util.Timer timer;
-  java.util.TimerTask timerTask;
+  ScheduledFuture<?> future;
+  Runnable runnable;
   Taskable tmnTask;
   boolean runOnlyOnce;
-  boolean active;
+  volatile boolean active;
   long prd;
+  // true while posted to the scene and not yet executed
+  final AtomicBoolean posted = new AtomicBoolean();
 
   public NonSeqTimer(Scene scn, Taskable o) {
     this(scn, o, false);
@@ -35,6 +53,28 @@ class NonSeqTimer implements Timer {
     tmnTask = o;
   }
 
+  /**
+   * Returns the executor shared by all non-seq timers, creating it if needed.
+   */
+  static synchronized ScheduledExecutorService executor() {
+    if (executor == null) {
+      ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
+          new ThreadFactory() {
+            ThreadFactory factory = Executors.defaultThreadFactory();
+
+            public Thread newThread(Runnable r) {
+              Thread thread = factory.newThread(r);
+              thread.setName("proscene-timer-" + thread.getName());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+      pool.setRemoveOnCancelPolicy(true);
+      executor = pool;
+    }
+    return executor;
+  }
+
   @Override
   public Taskable timingTask() {
     return tmnTask;
@@ -43,14 +83,26 @@ class NonSeqTimer implements Timer {
   @Override
   public void create() {
     stop();
-    timer = new java.util.Timer();
-    timerTask = new java.util.TimerTask() {
+    runnable = new Runnable() {
       public void run() {
-        tmnTask.execute();
+        if (posted.compareAndSet(false, true))
+          scene.postTimer(NonSeqTimer.this);
       }
     };
   }
 
+  /**
+   * Internal use. Executes the timer callback. Called by the scene from the draw thread.
+   */
+  void execute() {
+    posted.set(false);
+    if (!active)
+      return;
+    if (isSingleShot())
+      active = false;
+    tmnTask.execute();
+  }
+
   @Override
   public void run(long period) {
     setPeriod(period);
@@ -61,9 +113,9 @@ class NonSeqTimer implements Timer {
   public void run() {
     create();
     if (isSingleShot())
-      timer.schedule(timerTask, prd);
+      future = executor().schedule(runnable, prd, TimeUnit.MILLISECONDS);
     else
-      timer.scheduleAtFixedRate(timerTask, 0, prd);
+      future = executor().scheduleAtFixedRate(runnable, 0, prd, TimeUnit.MILLISECONDS);
     active = true;
   }
 
@@ -74,16 +126,16 @@ class NonSeqTimer implements Timer {
 
   @Override
   public void stop() {
-    if (timer != null) {
-      timer.cancel();
-      timer.purge();
+    if (future != null) {
+      future.cancel(false);
+      future = null;
     }
     active = false;
   }
 
   @Override
   public boolean isActive() {
-    return timer != null && active;
+    return active;
   }
 
   @Override
@@ -105,4 +157,4 @@ class NonSeqTimer implements Timer {
   public void setSingleShot(boolean singleShot) {
     runOnlyOnce = singleShot;
   }
-}
\ No newline at end of file
+}
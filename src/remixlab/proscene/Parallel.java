@@ -0,0 +1,204 @@
+/**************************************************************************************
+ * ProScene (version 3.0.0)
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive scenes
+ * in Processing, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.proscene;
+
+import remixlab.dandelion.core.Eye;
+import remixlab.dandelion.geom.Frame;
+import remixlab.dandelion.geom.Mat;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel variants of the dandelion bulk (packed array) routines, such as
+ * {@link remixlab.dandelion.core.Eye#project(Mat, float[], float[], int, int)} and
+ * {@link remixlab.dandelion.geom.Frame#inverseCoordinatesOf(Mat, float[], float[], int, int)}.
+ * <p>
+ * Batches larger than {@link #grain()} elements are recursively split and processed by
+ * a fork-join pool shared by all scenes (and sized to the number of available cores).
+ * Smaller batches are simply processed on the calling thread. The routines should be
+ * called from the draw thread, and the objects they read (e.g., the eye) should not be
+ * modified until they return.
+ */
+public class Parallel {
+  private static ForkJoinPool pool;
+  private static int grain = 4096;
+
+  /**
+   * A batch of elements that may be processed in disjoint [from, to) ranges
+   * concurrently.
+   */
+  public static abstract class Batch {
+    /**
+     * Processes the elements in [from, to).
+     */
+    public abstract void compute(int from, int to);
+  }
+
+  @SuppressWarnings("serial")
+  protected static class Task extends RecursiveAction {
+    protected Batch batch;
+    protected int from, to;
+
+    protected Task(Batch b, int f, int t) {
+      batch = b;
+      from = f;
+      to = t;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= grain) {
+        batch.compute(from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new Task(batch, from, middle), new Task(batch, middle, to));
+    }
+  }
+
+  private Parallel() {
+  }
+
+  /**
+   * Returns the shared fork-join pool.
+   */
+  public static synchronized ForkJoinPool pool() {
+    if (pool == null)
+      pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    return pool;
+  }
+
+  /**
+   * Returns the number of elements below which a batch is no longer split. Default is
+   * 4096.
+   */
+  public static int grain() {
+    return grain;
+  }
+
+  /**
+   * Sets the {@link #grain()}.
+   */
+  public static void setGrain(int g) {
+    if (g > 0)
+      grain = g;
+  }
+
+  /**
+   * Processes the [from, to) elements of the {@code batch}, splitting it among the
+   * {@link #pool()} threads when it is larger than {@link #grain()}.
+   */
+  public static void run(Batch batch, int from, int to) {
+    if (to - from <= grain)
+      batch.compute(from, to);
+    else
+      pool().invoke(new Task(batch, from, to));
+  }
+
+  /**
+   * Parallel version of
+   * {@link remixlab.dandelion.core.Eye#project(float[], float[], int, int)}.
+   */
+  public static int project(Eye eye, final float[] xyzIn, final float[] xyzOut, int offset, int count) {
+    // the eye state is read once, on the calling thread
+    final Mat projectionView = eye.projectionView();
+    final int[] viewport = eye.getViewport();
+    final AtomicInteger projected = new AtomicInteger();
+    run(new Batch() {
+      @Override
+      public void compute(int from, int to) {
+        projected.addAndGet(Eye.project(projectionView, viewport, xyzIn, xyzOut, from, to - from));
+      }
+    }, offset, offset + count);
+    return projected.get();
+  }
+
+  /**
+   * Parallel version of
+   * {@link remixlab.dandelion.core.Eye#unproject(float[], float[], int, int)}.
+   */
+  public static int unproject(Eye eye, final float[] xyzIn, final float[] xyzOut, int offset, int count) {
+    final Mat projectionViewInverse = eye.projectionViewInverse();
+    if (projectionViewInverse == null)
+      return 0;
+    final int[] viewport = eye.getViewport();
+    final AtomicInteger unprojected = new AtomicInteger();
+    run(new Batch() {
+      @Override
+      public void compute(int from, int to) {
+        unprojected.addAndGet(Eye.unproject(projectionViewInverse, viewport, xyzIn, xyzOut, from, to - from));
+      }
+    }, offset, offset + count);
+    return unprojected.get();
+  }
+
+  /**
+   * Parallel version of
+   * {@link remixlab.dandelion.geom.Frame#coordinatesOf(Mat, float[], float[], int, int)}.
+   */
+  public static void coordinatesOf(final Frame frame, final float[] in, final float[] out, int offset, int count) {
+    final Mat worldInverseMatrix = frame.worldInverseMatrix();
+    run(new Batch() {
+      @Override
+      public void compute(int from, int to) {
+        frame.coordinatesOf(worldInverseMatrix, in, out, from, to - from);
+      }
+    }, offset, offset + count);
+  }
+
+  /**
+   * Parallel version of
+   * {@link remixlab.dandelion.geom.Frame#inverseCoordinatesOf(Mat, float[], float[], int, int)}
+   * .
+   */
+  public static void inverseCoordinatesOf(final Frame frame, final float[] in, final float[] out, int offset,
+      int count) {
+    final Mat worldMatrix = frame.worldMatrix();
+    run(new Batch() {
+      @Override
+      public void compute(int from, int to) {
+        frame.inverseCoordinatesOf(worldMatrix, in, out, from, to - from);
+      }
+    }, offset, offset + count);
+  }
+
+  /**
+   * Parallel version of
+   * {@link remixlab.dandelion.geom.Frame#transformOf(Mat, float[], float[], int, int)}.
+   */
+  public static void transformOf(final Frame frame, final float[] in, final float[] out, int offset, int count) {
+    final Mat worldInverseMatrix = frame.worldInverseMatrix();
+    run(new Batch() {
+      @Override
+      public void compute(int from, int to) {
+        frame.transformOf(worldInverseMatrix, in, out, from, to - from);
+      }
+    }, offset, offset + count);
+  }
+
+  /**
+   * Parallel version of
+   * {@link remixlab.dandelion.geom.Frame#inverseTransformOf(Mat, float[], float[], int, int)}
+   * .
+   */
+  public static void inverseTransformOf(final Frame frame, final float[] in, final float[] out, int offset,
+      int count) {
+    final Mat worldMatrix = frame.worldMatrix();
+    run(new Batch() {
+      @Override
+      public void compute(int from, int to) {
+        frame.inverseTransformOf(worldMatrix, in, out, from, to - from);
+      }
+    }, offset, offset + count);
+  }
+}
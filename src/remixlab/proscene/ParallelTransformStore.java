@@ -0,0 +1,81 @@
+/**************************************************************************************
+ * ProScene (version 3.0.0)
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive scenes
+ * in Processing, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.proscene;
+
+import remixlab.dandelion.core.AbstractScene;
+import remixlab.dandelion.core.TransformStore;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link remixlab.dandelion.core.TransformStore} which world matrix sweeps are split
+ * among the threads of the {@link remixlab.proscene.Parallel#pool()}. It's the
+ * {@link remixlab.proscene.Scene#transformStore()}.
+ * <p>
+ * Sweeps of up to {@link remixlab.proscene.Parallel#grain()} frames run on the calling
+ * thread. Larger ones are recursively split into independent branches: sibling branches
+ * (e.g., those of the leading frames or of the children of a frame having many of them)
+ * are swept concurrently, once the world matrix of their common parent is known. The
+ * frames should not be modified until the sweep returns.
+ */
+public class ParallelTransformStore extends TransformStore {
+  /**
+   * Sweeps a range of sibling branches.
+   */
+  @SuppressWarnings("serial")
+  protected class Task extends RecursiveAction {
+    protected int from, to;
+
+    protected Task(int f, int t) {
+      from = f;
+      to = t;
+    }
+
+    @Override
+    protected void compute() {
+      int f = from;
+      // a single branch: its leading frame should be swept before its descendants
+      while (to - f > Parallel.grain() && branchEnd(f) >= to) {
+        sweepRange(f, f + 1);
+        f++;
+      }
+      if (to - f <= Parallel.grain()) {
+        sweepRange(f, to);
+        return;
+      }
+      // split at the sibling branch boundary next to the middle of the range
+      int middle = (f + to) >>> 1;
+      int split = f;
+      while (branchEnd(split) <= middle)
+        split = branchEnd(split);
+      if (split == f)
+        split = branchEnd(f);
+      invokeAll(new Task(f, split), new Task(split, to));
+    }
+  }
+
+  public ParallelTransformStore(AbstractScene scn) {
+    super(scn);
+  }
+
+  @Override
+  protected void sweep(int from, int to) {
+    if (to - from <= Parallel.grain()) {
+      super.sweep(from, to);
+      return;
+    }
+    pass++;
+    // the range should be made of whole sibling branches: start at the leading frame
+    while (parent[from] >= 0)
+      from = parent[from];
+    Parallel.pool().invoke(new Task(from, to));
+  }
+}
@@ -33,10 +33,13 @@ import java.awt.event.KeyEvent;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Pattern;
 
 // begin: GWT-incompatible
@@ -110,6 +113,7 @@ public class Scene extends AbstractScene implements PConstants {
 
   // Timing
   protected boolean javaTiming;
+  protected ConcurrentLinkedQueue<NonSeqTimer> postedTimers = new ConcurrentLinkedQueue<NonSeqTimer>();
   // end: GWT-incompatible
   // */
 
@@ -126,6 +130,35 @@ public class Scene extends AbstractScene implements PConstants {
   // pb : picking buffer
   protected PGraphics pb;
   protected boolean pickingBufferEnabled;
+  // picking buffer region (pixels read back around the last queried point), see
+  // pickingBufferPixel()
+  protected int pbRegionSize = 32;
+  protected int pbX, pbY, pbW, pbH;
+  protected int[] pbPixels;
+  protected ByteBuffer pbBuffer;
+  protected boolean pbDirty = true;
+  protected long pbStamp = -1;
+  // cpu ray cast picking, see rayCastPick()
+  protected boolean rayCastPicking;
+  protected boolean rcValid;
+  protected long rcStamp = -1;
+  protected float rcX, rcY;
+  protected InteractiveFrame rcFrame;
+  protected Vec rcOrigin = new Vec(), rcDirection = new Vec();
+  protected ArrayList<GenericFrame> rcCandidates = new ArrayList<GenericFrame>();
+  protected ArrayList<InteractiveFrame> rcHits = new ArrayList<InteractiveFrame>();
+  protected float[] rcDistances = new float[16];
+  // finds a frame updated since staleStamp, see isPickingBufferStale(GenericFrame, long)
+  protected long staleStamp;
+  protected boolean stale;
+  protected FrameTraversal staleTraversal = new FrameTraversal() {
+    @Override
+    protected boolean enter(GenericFrame frame) {
+      if (!stale && frame.lastUpdate() >= staleStamp)
+        stale = true;
+      return !stale;
+    }
+  };
   protected PShader pickingBufferShaderTriangle, pickingBufferShaderLine, pickingBufferShaderPoint;
 
   protected Profile profile;
@@ -204,6 +237,9 @@ public class Scene extends AbstractScene implements PConstants {
         pApplet().createGraphics(pg().width, pg().height, pg() instanceof PGraphics3D ? P3D : P2D) :
         null;
     if (pb != null) {
+      // multisampling would blend the frame ids at the shape edges (and prevent the
+      // direct read back of the buffer region)
+      pb.noSmooth();
       enablePickingBuffer();
       pickingBufferShaderTriangle = pApplet().loadShader("PickingBuffer.frag");
       pickingBufferShaderLine = pApplet().loadShader("PickingBuffer.frag");
@@ -360,9 +396,17 @@ public class Scene extends AbstractScene implements PConstants {
    * Returns the {@link #frames()}
    * <a href="http://schabby.de/picking-opengl-ray-tracing/">'ray-picking'</a> color
    * buffer.
+   * <p>
+   * The buffer is rendered on demand, i.e., only when a frame queries it (see
+   * {@link remixlab.proscene.InteractiveFrame#checkIfGrabsInput(float, float)}) at a
+   * point lying outside the last rendered region, or after the frames or the eye have
+   * changed. Only a {@link #pickingBufferRegionSize()} square (scissored) region around
+   * the queried point is rendered and read back, so that the rest of the buffer contents
+   * are undefined.
    *
    * @see #drawFrames()
    * @see #drawFrames(PGraphics)
+   * @see #invalidatePickingBuffer()
    */
   public PGraphics pickingBuffer() {
     return pb;
@@ -374,6 +418,7 @@ public class Scene extends AbstractScene implements PConstants {
   public void enablePickingBuffer() {
     if (!(pickingBufferEnabled = pb != null))
       System.out.println("PickingBuffer can't be instantiated!");
+    invalidatePickingBuffer();
   }
 
   /**
@@ -401,6 +446,228 @@ public class Scene extends AbstractScene implements PConstants {
       enablePickingBuffer();
   }
 
+  /**
+   * Returns the side length (in pixels) of the square region around the queried point
+   * that is rendered (and read back) into the {@link #pickingBuffer()}. Default is 32.
+   * <p>
+   * Pointer displacements within the region don't require the buffer to be rendered
+   * again (as long as the frames and the eye don't change).
+   */
+  public int pickingBufferRegionSize() {
+    return pbRegionSize;
+  }
+
+  /**
+   * Sets the {@link #pickingBufferRegionSize()}.
+   */
+  public void setPickingBufferRegionSize(int size) {
+    if (size < 1) {
+      System.out.println("Warning: pickingBufferRegionSize should be positive. Nothing done");
+      return;
+    }
+    pbRegionSize = size;
+    pbBuffer = null;
+    invalidatePickingBuffer();
+  }
+
+  /**
+   * Forces the {@link #pickingBuffer()} to be rendered again at the next query.
+   * <p>
+   * Changes of the frames (and eye) transformations and shapes are detected
+   * automatically. Call this method when the frame shapes are animated procedurally
+   * (e.g., from a graphics handler method) or when their visibility changes.
+   */
+  public void invalidatePickingBuffer() {
+    pbDirty = true;
+    rcValid = false;
+  }
+
+  /**
+   * Internal use. Returns the (ARGB) color of the {@link #pickingBuffer()} at
+   * {@code (x, y)}, rendering (and reading back) the {@link #pickingBufferRegionSize()}
+   * region around it first if the point lies outside the current region, or the buffer
+   * is out of date. Returns 0 (i.e., no frame) for points outside the buffer.
+   */
+  protected int pickingBufferPixel(float x, float y) {
+    int px = (int) x, py = (int) y;
+    if (px < 0 || py < 0 || px >= pb.width || py >= pb.height)
+      return 0;
+    if (pbDirty || px < pbX || py < pbY || px >= pbX + pbW || py >= pbY + pbH)
+      renderPickingBuffer(px, py);
+    return pbPixels[(py - pbY) * pbW + px - pbX];
+  }
+
+  /**
+   * Internal use. Renders the {@link #frames()} into the {@link #pickingBuffer()} region
+   * around {@code (px, py)} and reads it back.
+   */
+  protected void renderPickingBuffer(int px, int py) {
+    int size = Math.min(pbRegionSize, Math.min(pb.width, pb.height));
+    pbX = Math.max(0, Math.min(px - size / 2, pb.width - size));
+    pbY = Math.max(0, Math.min(py - size / 2, pb.height - size));
+    pbW = pbH = size;
+    if (pbBuffer == null || pbBuffer.capacity() < 4 * size * size) {
+      pbBuffer = ByteBuffer.allocateDirect(4 * size * size).order(ByteOrder.nativeOrder());
+      pbPixels = new int[size * size];
+    }
+    pb.beginDraw();
+    pb.pushStyle();
+    pb.imageMode(CORNER);
+    pb.clip(pbX, pbY, pbW, pbH);
+    pb.background(0);
+    drawFrames(pb);
+    // read back the region (opengl rows go bottom-up)
+    PGL pgl = pb.beginPGL();
+    pbBuffer.rewind();
+    pgl.readPixels(pbX, pb.height - pbY - pbH, pbW, pbH, PGL.RGBA, PGL.UNSIGNED_BYTE, pbBuffer);
+    pb.endPGL();
+    pb.noClip();
+    pb.popStyle();
+    pb.endDraw();
+    for (int row = 0; row < pbH; row++) {
+      int src = 4 * (pbH - 1 - row) * pbW;
+      for (int col = 0, dst = row * pbW; col < pbW; col++, dst++, src += 4)
+        pbPixels[dst] = (255 << 24) | ((pbBuffer.get(src) & 255) << 16) | ((pbBuffer.get(src + 1) & 255) << 8)
+            | (pbBuffer.get(src + 2) & 255);
+    }
+    pbDirty = false;
+    pbStamp = frameCount;
+  }
+
+  // CPU PICKING
+
+  /**
+   * Enables CPU ray cast picking: {@link remixlab.proscene.InteractiveFrame}s having an
+   * {@code EXACT} picking precision and a PShape picking shape are then picked by casting
+   * a ray against their shape triangles (see {@link #rayCast(float, float)}), instead of
+   * using the {@link #pickingBuffer()}. This avoids the picking render pass altogether
+   * and also works when there's no picking buffer (e.g., with a JAVA2D renderer).
+   *
+   * @see remixlab.proscene.InteractiveFrame#rayCast(Vec, Vec)
+   */
+  public void enableRayCastPicking() {
+    rayCastPicking = true;
+    invalidatePickingBuffer();
+  }
+
+  /**
+   * Disables CPU ray cast picking.
+   *
+   * @see #enableRayCastPicking()
+   */
+  public void disableRayCastPicking() {
+    rayCastPicking = false;
+    invalidatePickingBuffer();
+  }
+
+  /**
+   * Returns {@code true} if CPU ray cast picking is enabled and {@code false} otherwise.
+   *
+   * @see #enableRayCastPicking()
+   */
+  public boolean isRayCastPickingEnabled() {
+    return rayCastPicking;
+  }
+
+  /**
+   * Toggles CPU ray cast picking.
+   *
+   * @see #enableRayCastPicking()
+   */
+  public void toggleRayCastPicking() {
+    if (isRayCastPickingEnabled())
+      disableRayCastPicking();
+    else
+      enableRayCastPicking();
+  }
+
+  /**
+   * Returns the (non-eye) {@link #frames()} which PShape picking shapes are hit by the ray
+   * cast from the screen point {@code (x, y)}, sorted from the nearest to the farthest.
+   *
+   * @see #rayCast(float, float, List)
+   */
+  public List<InteractiveFrame> rayCast(float x, float y) {
+    return rayCast(x, y, new ArrayList<InteractiveFrame>());
+  }
+
+  /**
+   * Appends to {@code result} the (non-eye) {@link #frames()} which PShape picking shapes
+   * are hit by the ray cast from the screen point {@code (x, y)}, sorted from the nearest
+   * to the farthest, and returns it.
+   * <p>
+   * In 3D the ray is computed with
+   * {@link remixlab.dandelion.core.Camera#convertClickToLine(Point, Vec, Vec)}. In 2D it
+   * is cast along the z axis through the unprojected point. Frames having bounds (see
+   * {@link remixlab.dandelion.core.GenericFrame#setBoundingBox(Vec, Vec)}) are discarded
+   * as soon as the ray misses them, and only then their shape triangles are tested (see
+   * {@link remixlab.proscene.InteractiveFrame#rayCast(Vec, Vec)}).
+   */
+  public List<InteractiveFrame> rayCast(float x, float y, List<InteractiveFrame> result) {
+    pickingRay(x, y, rcOrigin, rcDirection);
+    // frames which bounds are hit by the ray, completed with those having no bounds
+    rcCandidates.clear();
+    frameBVH().raycast(rcOrigin, rcDirection, rcCandidates);
+    frameBVH().unboundedFrames(rcCandidates);
+    int first = result.size(), hits = 0;
+    for (GenericFrame gFrame : rcCandidates) {
+      if (!(gFrame instanceof InteractiveFrame))
+        continue;
+      InteractiveFrame frame = (InteractiveFrame) gFrame;
+      float t = frame.rayCast(rcOrigin, rcDirection);
+      if (t < 0)
+        continue;
+      // insertion sort by distance
+      if (hits == rcDistances.length) {
+        float[] grown = new float[2 * hits];
+        System.arraycopy(rcDistances, 0, grown, 0, hits);
+        rcDistances = grown;
+      }
+      int i = hits++;
+      for (; i > 0 && rcDistances[i - 1] > t; i--)
+        rcDistances[i] = rcDistances[i - 1];
+      rcDistances[i] = t;
+      result.add(first + i, frame);
+    }
+    rcCandidates.clear();
+    return result;
+  }
+
+  /**
+   * Internal use. Returns the nearest frame hit by the ray cast from {@code (x, y)} (see
+   * {@link #rayCast(float, float)}), or null if there's none. The result is cached until
+   * the point, the frames or the eye change (see {@link #invalidatePickingBuffer()}), so
+   * that all the frames querying the same point share a single ray cast. The cache is
+   * independent of the {@link #pickingBuffer()} region.
+   */
+  protected InteractiveFrame rayCastPick(float x, float y) {
+    if (!rcValid || rcX != x || rcY != y) {
+      rcHits.clear();
+      rayCast(x, y, rcHits);
+      rcFrame = rcHits.isEmpty() ? null : rcHits.get(0);
+      rcHits.clear();
+      rcX = x;
+      rcY = y;
+      rcValid = true;
+      rcStamp = frameCount;
+    }
+    return rcFrame;
+  }
+
+  /**
+   * Internal use. Computes the world {@code origin} and {@code direction} of the ray cast
+   * from the screen point {@code (x, y)}.
+   */
+  protected void pickingRay(float x, float y, Vec origin, Vec direction) {
+    if (is3D()) {
+      camera().convertClickToLine(new Point(x, y), origin, direction);
+      return;
+    }
+    origin.set(eye().unprojectedCoordinatesOf(new Vec(x, y, 0.5f)));
+    origin.setZ(1);
+    direction.set(0, 0, -1);
+  }
+
   @Override
   public int width() {
     return pg().width;
@@ -1031,7 +1298,12 @@ public class Scene extends AbstractScene implements PConstants {
   }
 
   /**
-   * Sets all {@link #timingHandler()} timers as (multi-threaded) java.util.Timer(s).
+   * Sets all {@link #timingHandler()} timers as (multi-threaded) non-sequential timers.
+   * <p>
+   * Non-sequential timers are all scheduled on a single thread pool (sized to the number
+   * of available cores) which is shared among all scenes, instead of one thread per
+   * timer. Their callbacks are executed in a batch on the draw thread, at
+   * {@link #postDraw()}.
    *
    * @see #setSeqTimers()
    * @see #shiftTimers()
@@ -1065,6 +1337,41 @@ public class Scene extends AbstractScene implements PConstants {
     PApplet.println("java util timers set");
   }
 
+  /**
+   * Internal use. Called from the non-seq timers thread pool to have the timer callback
+   * executed at the next {@link #postDraw()}.
+   */
+  void postTimer(NonSeqTimer timer) {
+    postedTimers.add(timer);
+  }
+
+  /**
+   * Executes, on the draw thread, the callbacks of all the non-seq timers that went off
+   * since the last call.
+   *
+   * @see #setNonSeqTimers()
+   */
+  protected void handleNonSeqTimers() {
+    // timers posted while the batch executes are left for the next frame
+    for (int i = postedTimers.size(); i > 0; i--) {
+      NonSeqTimer timer = postedTimers.poll();
+      if (timer == null)
+        break;
+      timer.execute();
+    }
+  }
+
+  /**
+   * Executes the callbacks of the non-seq timers that went off since the last frame (see
+   * {@link #setNonSeqTimers()}) and then calls
+   * {@link remixlab.dandelion.core.AbstractScene#postDraw()}.
+   */
+  @Override
+  public void postDraw() {
+    handleNonSeqTimers();
+    super.postDraw();
+  }
+
   /**
    * @return true, if timing is handling sequentially (i.e., all {@link #timingHandler()}
    * timers are (single-threaded) {@link remixlab.fpstiming.SeqTimer}(s)).
@@ -1259,8 +1566,8 @@ public class Scene extends AbstractScene implements PConstants {
 
   /**
    * Paint method which is called just after your {@code PApplet.draw()} method. Calls
-   * {@link #proscenium()}, {@link #displayVisualHints()}, draws the scene into the
-   * {@link #pickingBuffer()} and {@link #postDraw()}. This method is registered at the
+   * {@link #proscenium()}, {@link #displayVisualHints()}, {@link #handlePickingBuffer()}
+   * and {@link #postDraw()}. This method is registered at the
    * PApplet and hence you don't need to call it. Only meaningful if the scene is
    * on-screen (it the scene {@link #isOffscreen()} it even doesn't get registered at the
    * PApplet.
@@ -1381,23 +1688,45 @@ public class Scene extends AbstractScene implements PConstants {
   }
 
   /**
-   * Internal use. Draws the contents of the scene (its {@link #frames()}) into the
-   * {@link #pickingBuffer()} to perform picking on the scene {@link #frames()}.
+   * Internal use. Invalidates the {@link #pickingBuffer()} when the scene
+   * {@link #frames()} or the eye have been updated since it was last rendered, so that
+   * it gets rendered again at the next query (see {@link #pickingBuffer()}).
    * <p>
    * Called by {@link #draw()} (on-screen scenes) and {@link #endDraw()} (off-screen
    * scenes).
    */
   protected void handlePickingBuffer() {
-    if (!this.isPickingBufferEnabled() || !unchachedBuffer)
+    if ((!isPickingBufferEnabled() && !isRayCastPickingEnabled()) || !unchachedBuffer)
       return;
-    pickingBuffer().beginDraw();
-    pickingBuffer().pushStyle();
-    pickingBuffer().background(0);
-    drawFrames(pickingBuffer());
-    pickingBuffer().popStyle();
-    pickingBuffer().endDraw();
-    // if (frames().size() > 0)
-    pickingBuffer().loadPixels();
+    if (!pbDirty && isPickingBufferStale(pbStamp))
+      pbDirty = true;
+    if (rcValid && isPickingBufferStale(rcStamp))
+      rcValid = false;
+  }
+
+  /**
+   * Internal use. Returns {@code true} if the eye or any of the {@link #frames()} has
+   * been updated since the given {@code stamp} (i.e., since the {@link #pickingBuffer()}
+   * region was rendered, or the ray cast picking was performed).
+   */
+  protected boolean isPickingBufferStale(long stamp) {
+    if (eye().lastUpdate() >= stamp)
+      return true;
+    for (GenericFrame frame : leadingFrames())
+      if (isPickingBufferStale(frame, stamp))
+        return true;
+    return false;
+  }
+
+  /**
+   * Internal use. Returns {@code true} if the {@code frame} or any of its descendants has
+   * been updated since the given {@code stamp}.
+   */
+  protected boolean isPickingBufferStale(GenericFrame frame, long stamp) {
+    stale = false;
+    staleStamp = stamp;
+    staleTraversal.traverse(frame);
+    return stale;
   }
 
   /**
@@ -1850,16 +2179,38 @@ public class Scene extends AbstractScene implements PConstants {
 
   protected boolean unchachedBuffer;
   protected PGraphics targetPGraphics;
+  protected PMatrix targetView, targetMatrix;
+  // the traversal pushes at most half of the Processing matrix stack (which holds 32
+  // matrices), leaving the rest to the visit callbacks. Deeper frames save the matrix in
+  // savedMatrices instead, see enterFrame()
+  protected static final int MAX_PUSHED_FRAMES = 16;
+  protected List<PMatrix> savedMatrices = new ArrayList<PMatrix>();
+
+  /**
+   * Returns the scene {@link remixlab.proscene.ParallelTransformStore}.
+   *
+   * @see remixlab.dandelion.core.AbstractScene#transformStore()
+   */
+  @Override
+  public TransformStore transformStore() {
+    if (store == null)
+      store = new ParallelTransformStore(this);
+    return store;
+  }
 
   @Override
   protected boolean addLeadingFrame(GenericFrame gFrame) {
     boolean result = super.addLeadingFrame(gFrame);
     if (result)
-      if (gFrame instanceof InteractiveFrame)
-        // a bit weird but otherwise checkifgrabsinput throws a npe at sketch startup
-        // if(gFrame instanceof InteractiveFrame)// this line throws the npe too
-        if (isPickingBufferEnabled())
-          pickingBuffer().loadPixels();
+      invalidatePickingBuffer();
+    return result;
+  }
+
+  @Override
+  protected boolean removeLeadingFrame(GenericFrame gFrame) {
+    boolean result = super.removeLeadingFrame(gFrame);
+    if (result)
+      invalidatePickingBuffer();
     return result;
   }
 
@@ -1978,14 +2329,91 @@ public class Scene extends AbstractScene implements PConstants {
   }
 
   @Override
-  protected void visitFrame(GenericFrame frame) {
-    targetPGraphics.pushMatrix();
-    applyTransformation(targetPGraphics, frame);
-    if (frame instanceof GenericFrame)
+  protected boolean enterFrame(GenericFrame frame) {
+    Eye.Visibility visibility = cullFrame(frame);
+    if (visibility == Eye.Visibility.INVISIBLE)
+      return false;
+    if (loadWorldMatrices)
+      loadWorldMatrix(targetPGraphics, frame);
+    else {
+      int level = traversal.depth() - MAX_PUSHED_FRAMES;
+      if (level < 0)
+        targetPGraphics.pushMatrix();
+      else
+        saveMatrix(level);
+      applyTransformation(targetPGraphics, frame);
+    }
+    if (frame.visibility() != Eye.Visibility.INVISIBLE) {
+      visitedFrames++;
       frame.visitCallback();
-    for (GenericFrame child : frame.children())
-      visitFrame(child);
-    targetPGraphics.popMatrix();
+    }
+    traversalVisibility = visibility;
+    return true;
+  }
+
+  @Override
+  protected void exitFrame(GenericFrame frame) {
+    if (frame.visibility() != Eye.Visibility.INVISIBLE)
+      frame.postVisitCallback();
+    if (!loadWorldMatrices) {
+      int level = traversal.depth() - MAX_PUSHED_FRAMES;
+      if (level < 0)
+        targetPGraphics.popMatrix();
+      else
+        targetPGraphics.setMatrix(savedMatrices.get(level));
+    }
+  }
+
+  /**
+   * Used by the traverse frame tree algorithm to enter the frames lying deeper than
+   * {@link #MAX_PUSHED_FRAMES}, which would overflow the Processing matrix stack. Copies
+   * the {@code targetPGraphics} matrix into the {@code level}-th saved matrix, which is
+   * reused among traversals.
+   */
+  protected void saveMatrix(int level) {
+    boolean threeD = targetPGraphics.is3D();
+    if (level == savedMatrices.size())
+      savedMatrices.add(null);
+    PMatrix matrix = savedMatrices.get(level);
+    if (threeD && !(matrix instanceof PMatrix3D))
+      savedMatrices.set(level, matrix = new PMatrix3D());
+    else if (!threeD && !(matrix instanceof PMatrix2D))
+      savedMatrices.set(level, matrix = new PMatrix2D());
+    if (threeD)
+      targetPGraphics.getMatrix((PMatrix3D) matrix);
+    else
+      targetPGraphics.getMatrix((PMatrix2D) matrix);
+  }
+
+  @Override
+  protected void beginWorldMatrixPass() {
+    transformStore().update();
+    targetView = targetPGraphics.getMatrix();
+    targetMatrix = targetView.get();
+  }
+
+  @Override
+  protected void endWorldMatrixPass() {
+    targetPGraphics.setMatrix(targetView);
+  }
+
+  /**
+   * Sets the {@code pgraphics} matrix to the one it had before the traversal times the
+   * {@code frame} world matrix, as found in the {@link #transformStore()}.
+   *
+   * @see remixlab.dandelion.core.AbstractScene#loadWorldMatrix(GenericFrame)
+   */
+  protected void loadWorldMatrix(PGraphics pgraphics, GenericFrame frame) {
+    Mat world = transformStore().worldMatrix(frame, passWorld);
+    float[] w = (world == null ? frame.worldMatrix() : world).mat;
+    targetMatrix.set(targetView);
+    // w is column-major whereas PMatrix.apply() expects its entries row by row
+    if (targetMatrix instanceof PMatrix3D)
+      targetMatrix.apply(w[0], w[4], w[8], w[12], w[1], w[5], w[9], w[13], w[2], w[6], w[10], w[14], w[3], w[7], w[11],
+          w[15]);
+    else
+      targetMatrix.apply(w[0], w[4], w[12], w[1], w[5], w[13]);
+    pgraphics.setMatrix(targetMatrix);
   }
 
   /**
@@ -2017,18 +2445,19 @@ public class Scene extends AbstractScene implements PConstants {
    * {@code pgraphics}). Needed by
    * {@link remixlab.proscene.InteractiveFrame#draw(PGraphics)}
    *
+   * <p>
+   * The {@code frame} {@link remixlab.dandelion.geom.Frame#worldMatrix()}, which is
+   * cached, is applied at once, so that frames of any depth may be used.
+   *
    * @see remixlab.proscene.InteractiveFrame#draw(PGraphics)
    * @see #applyTransformation(PGraphics, Frame)
    * @see #bindMatrices(PGraphics)
    */
   public static void applyWorldTransformation(PGraphics pgraphics, Frame frame) {
-    Frame refFrame = frame.referenceFrame();
-    if (refFrame != null) {
-      applyWorldTransformation(pgraphics, refFrame);
-      applyTransformation(pgraphics, frame);
-    } else {
-      applyTransformation(pgraphics, frame);
-    }
+    if (pgraphics instanceof PGraphics3D)
+      pgraphics.applyMatrix(toPMatrix(frame.worldMatrix()));
+    else
+      pgraphics.applyMatrix(toPMatrix2D(frame.worldMatrix()));
   }
 
   // SCREENDRAWING
@@ -17,12 +17,15 @@ import remixlab.dandelion.core.AbstractScene;
 import remixlab.dandelion.geom.Vec;
 import remixlab.util.EqualsBuilder;
 import remixlab.util.HashCodeBuilder;
+import remixlab.util.Reflection;
 
 import java.lang.reflect.Method;
 
 /**
  * An interactive-frame shape may wrap either a PShape (Processing retained mode) or a
- * graphics procedure (Processing immediate mode), but not both.
+ * graphics procedure (Processing immediate mode), but not both. Graphics procedures may
+ * be given either as a {@link remixlab.proscene.Drawable} or as an object method name,
+ * which prototype is resolved once, when the shape is set.
  * <p>
  * This class allows to easily set an interactive-frame shape (see all the set() methods)
  * and is provided to ease the {@link remixlab.proscene.InteractiveFrame} class
@@ -31,7 +34,7 @@ import java.lang.reflect.Method;
 class Shape {
   @Override
   public int hashCode() {
-    return new HashCodeBuilder(17, 37).append(shp).append(obj).append(mth).append(shift).toHashCode();
+    return new HashCodeBuilder(17, 37).append(shp).append(obj).append(mth).append(drw).append(shift).toHashCode();
   }
 
   @Override
@@ -44,14 +47,19 @@ class Shape {
       return false;
     Shape other = (Shape) object;
     return new EqualsBuilder().append(shp, other.shp).append(obj, other.obj).append(mth, other.mth)
-        .append(shift, other.shift).isEquals();
+        .append(drw, other.drw).append(shift, other.shift).isEquals();
   }
 
   InteractiveFrame iFrame;
   PShape shp;
   Object obj;
   Method mth;
+  // mth arguments, resolved at set time: {pg} or {iFrame, pg}
+  Object[] args;
+  Drawable drw;
   Vec shift;
+  // retained mode triangle hierarchy, see rayCast()
+  TriangleBVH bvh;
 
   Shape(InteractiveFrame frame) {
     iFrame = frame;
@@ -93,19 +101,43 @@ class Shape {
           pg.popMatrix();
         }
       }
-    } else if (mth != null && obj != null) {
+    } else if (drw != null)
+      drw.draw(pg);
+    else if (mth != null && obj != null) {
+      args[args.length - 1] = pg;
       try {
-        mth.invoke(obj, new Object[]{pg});
-      } catch (Exception e1) {
-        try {
-          mth.invoke(obj, new Object[]{iFrame, pg});
-        } catch (Exception e2) {
-          PApplet.println("Something went wrong when invoking your " + mth.getName() + " method");
-        }
+        mth.invoke(obj, args);
+      } catch (Exception e) {
+        PApplet.println("Something went wrong when invoking your " + mth.getName() + " method");
       }
     }
   }
 
+  /**
+   * Retained mode. Returns the parameter {@code t} of the nearest intersection of the ray
+   * {@code o + t d} (in frame coordinates) with the shape triangles, or -1 if there's
+   * none (or if the shape isn't {@link #isRetained()}).
+   * <p>
+   * The shape triangle hierarchy (see {@link remixlab.proscene.TriangleBVH}) is built at
+   * the first call.
+   */
+  float rayCast(float[] o, float[] d) {
+    if (!isRetained() || !shp.isVisible() || iFrame.isEyeFrame())
+      return -1;
+    if (bvh == null)
+      bvh = new TriangleBVH(shp);
+    // undo the draw() shift and shape mode translations
+    float[] origin = { o[0], o[1], o[2] };
+    if (shift != null)
+      for (int k = 0; k < 3; k++)
+        origin[k] -= shift.vec[k];
+    if (iFrame.scene().pg().shapeMode == PApplet.CENTER) {
+      origin[0] += shp.getWidth() / 2;
+      origin[1] += shp.getHeight() / 2;
+    }
+    return bvh.intersect(origin, d);
+  }
+
   /**
    * Retained mode.
    */
@@ -115,6 +147,25 @@ class Shape {
     shp = ps;
     mth = null;
     obj = null;
+    args = null;
+    drw = null;
+    bvh = null;
+  }
+
+  /**
+   * Immediate mode, without reflection.
+   */
+  void set(Drawable drawable) {
+    if (drawable == null || drawable == drw)
+      return;
+    if (!isReset())
+      System.out.println("Warning: overwriting shape");
+    drw = drawable;
+    shp = null;
+    mth = null;
+    obj = null;
+    args = null;
+    bvh = null;
   }
 
   /**
@@ -130,7 +181,11 @@ class Shape {
     shp = other.shp;
     obj = other.obj;
     mth = other.mth;
+    // the double param prototype takes this shape frame
+    args = other.args == null ? null : other.args.length == 2 ? new Object[]{iFrame, null} : new Object[1];
+    drw = other.drw;
     shift = other.shift;
+    bvh = other.bvh;
   }
 
   /**
@@ -142,6 +197,8 @@ class Shape {
   void singleParam(Object object, String methodName) throws NoSuchMethodException, SecurityException {
     mth = object.getClass().getMethod(methodName, new Class<?>[]{PGraphics.class});
     obj = object;
+    args = new Object[1];
+    Reflection.setAccessible(mth);
   }
 
   /**
@@ -153,6 +210,8 @@ class Shape {
   void doubleParam(Object object, String methodName) throws NoSuchMethodException, SecurityException {
     mth = object.getClass().getMethod(methodName, new Class<?>[]{InteractiveFrame.class, PGraphics.class});
     obj = object;
+    args = new Object[]{iFrame, null};
+    Reflection.setAccessible(mth);
   }
 
   /**
@@ -189,8 +248,11 @@ class Shape {
                 methodName));
       }
     }
-    if (success)
+    if (success) {
       shp = null;
+      drw = null;
+      bvh = null;
+    }
     return success;
   }
 
@@ -248,8 +310,11 @@ class Shape {
         }
       }
     }
-    if (success)
+    if (success) {
       shp = null;
+      drw = null;
+      bvh = null;
+    }
     return success;
   }
 
@@ -280,13 +345,16 @@ class Shape {
     shp = null;
     mth = null;
     obj = null;
+    args = null;
+    drw = null;
     shift = null;
+    bvh = null;
   }
 
   boolean isSetable(Object object, String methodName) {
     if (object == null || methodName == null)
       return false;
-    if (isImmediate())
+    if (mth != null)
       if (obj == object && mth.getName().equals(methodName))
         return false;
     if (!isReset())
@@ -306,7 +374,7 @@ class Shape {
    * Checks if internal references are null.
    */
   boolean isReset() {
-    return shp == null && mth == null && shp == null && shift == null;
+    return shp == null && mth == null && drw == null && shift == null;
   }
 
   /**
@@ -317,9 +385,10 @@ class Shape {
   }
 
   /**
-   * Does the shape wraps a graphics procedure Processing object?
+   * Does the shape wraps a graphics procedure Processing object (or a
+   * {@link remixlab.proscene.Drawable})?
    */
   boolean isImmediate() {
-    return obj != null && mth != null;
+    return (obj != null && mth != null) || drw != null;
   }
 }
\ No newline at end of file
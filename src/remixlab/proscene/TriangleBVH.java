@@ -0,0 +1,237 @@
+/**************************************************************************************
+ * ProScene (version 3.0.0)
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive scenes
+ * in Processing, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.proscene;
+
+import processing.core.PConstants;
+import processing.core.PShape;
+import processing.core.PVector;
+import remixlab.dandelion.core.FrameBVH;
+
+/**
+ * Bounding volume hierarchy of the triangles of a PShape, used to ray cast
+ * {@link remixlab.proscene.InteractiveFrame} shapes on the CPU (see
+ * {@link remixlab.proscene.Scene#enableRayCastPicking()}).
+ * <p>
+ * The triangles are taken (in shape coordinates) from the PShape tessellation, or from
+ * its raw vertices when there's none. The hierarchy is a binary tree of axis aligned
+ * boxes built by median split, with up to {@link #LEAF_SIZE} triangles per leaf. It's
+ * static: it should be built again if the PShape vertices change.
+ */
+class TriangleBVH {
+  static final int LEAF_SIZE = 4;
+
+  // triangle vertices: 9 floats per triangle, sorted by leaf
+  float[] tris;
+  int count;
+
+  // nodes, stored in pre-order so that children come after their parent
+  int nodeCount;
+  float[] min, max;
+  // left child, or -(first triangle + 1) for leaf nodes which then store their triangle
+  // count in right
+  int[] left, right;
+
+  int[] stack = new int[64];
+
+  TriangleBVH(PShape shape) {
+    FloatList list = new FloatList();
+    PShape tess = shape.getTessellation();
+    if (tess != null && tess.getVertexCount() > 0)
+      collect(tess, list);
+    else
+      collect(shape, list);
+    count = list.size / 9;
+    float[] raw = list.data;
+    if (count == 0)
+      return;
+    int[] order = new int[count];
+    float[] centroid = new float[3 * count];
+    for (int i = 0; i < count; i++) {
+      order[i] = i;
+      for (int k = 0; k < 3; k++)
+        centroid[3 * i + k] = (raw[9 * i + k] + raw[9 * i + 3 + k] + raw[9 * i + 6 + k]) / 3;
+    }
+    int capacity = 2 * count;
+    min = new float[3 * capacity];
+    max = new float[3 * capacity];
+    left = new int[capacity];
+    right = new int[capacity];
+    build(raw, order, centroid, 0, count);
+    // store the triangles in leaf order
+    tris = new float[9 * count];
+    for (int i = 0; i < count; i++)
+      System.arraycopy(raw, 9 * order[i], tris, 9 * i, 9);
+  }
+
+  /**
+   * Returns the number of triangles.
+   */
+  int size() {
+    return count;
+  }
+
+  // 1. Triangle collection
+
+  static class FloatList {
+    float[] data = new float[9 * 64];
+    int size;
+
+    void add(PVector v) {
+      if (size + 3 > data.length) {
+        float[] grown = new float[2 * data.length];
+        System.arraycopy(data, 0, grown, 0, size);
+        data = grown;
+      }
+      data[size++] = v.x;
+      data[size++] = v.y;
+      data[size++] = v.z;
+    }
+
+    void triangle(PVector a, PVector b, PVector c) {
+      add(a);
+      add(b);
+      add(c);
+    }
+  }
+
+  static void collect(PShape shape, FloatList list) {
+    if (shape.getFamily() == PShape.GROUP) {
+      for (int i = 0; i < shape.getChildCount(); i++)
+        collect(shape.getChild(i), list);
+      return;
+    }
+    int n = shape.getVertexCount();
+    if (n < 3)
+      return;
+    PVector[] v = new PVector[n];
+    for (int i = 0; i < n; i++)
+      v[i] = shape.getVertex(i, new PVector());
+    switch (shape.getKind()) {
+      case PConstants.TRIANGLES:
+        for (int i = 0; i + 2 < n; i += 3)
+          list.triangle(v[i], v[i + 1], v[i + 2]);
+        break;
+      case PConstants.TRIANGLE_STRIP:
+        for (int i = 0; i + 2 < n; i++)
+          list.triangle(v[i], v[i + 1], v[i + 2]);
+        break;
+      case PConstants.QUADS:
+        for (int i = 0; i + 3 < n; i += 4) {
+          list.triangle(v[i], v[i + 1], v[i + 2]);
+          list.triangle(v[i], v[i + 2], v[i + 3]);
+        }
+        break;
+      case PConstants.QUAD_STRIP:
+        for (int i = 0; i + 3 < n; i += 2) {
+          list.triangle(v[i], v[i + 1], v[i + 3]);
+          list.triangle(v[i], v[i + 3], v[i + 2]);
+        }
+        break;
+      default:
+        // TRIANGLE_FAN, POLYGON and paths: fan around the first vertex (exact for convex
+        // polygons)
+        for (int i = 1; i + 1 < n; i++)
+          list.triangle(v[0], v[i], v[i + 1]);
+    }
+  }
+
+  // 2. Construction
+
+  int build(float[] raw, int[] order, float[] centroid, int start, int end) {
+    int node = nodeCount++;
+    for (int k = 0; k < 3; k++) {
+      min[3 * node + k] = Float.MAX_VALUE;
+      max[3 * node + k] = -Float.MAX_VALUE;
+    }
+    for (int i = start; i < end; i++)
+      for (int j = 0; j < 9; j++) {
+        float c = raw[9 * order[i] + j];
+        min[3 * node + j % 3] = Math.min(min[3 * node + j % 3], c);
+        max[3 * node + j % 3] = Math.max(max[3 * node + j % 3], c);
+      }
+    if (end - start <= LEAF_SIZE) {
+      left[node] = -(start + 1);
+      right[node] = end - start;
+      return node;
+    }
+    // split at the median of the centroids along the widest axis
+    int axis = 0;
+    for (int k = 1; k < 3; k++)
+      if (max[3 * node + k] - min[3 * node + k] > max[3 * node + axis] - min[3 * node + axis])
+        axis = k;
+    int middle = (start + end) >>> 1;
+    FrameBVH.select(order, centroid, axis, start, end - 1, middle);
+    left[node] = build(raw, order, centroid, start, middle);
+    right[node] = build(raw, order, centroid, middle, end);
+    return node;
+  }
+
+  // 3. Ray queries
+
+  /**
+   * Returns the parameter {@code t} of the nearest intersection of the ray
+   * {@code o + t d} (in shape coordinates) with the shape triangles (either side), or -1
+   * if the ray misses them all.
+   */
+  float intersect(float[] o, float[] d) {
+    if (count == 0)
+      return -1;
+    float[] inv = {1 / d[0], 1 / d[1], 1 / d[2]};
+    float best = Float.MAX_VALUE;
+    int top = 0;
+    stack[top++] = 0;
+    while (top > 0) {
+      int node = stack[--top];
+      float near = FrameBVH.rayBox(min, max, node, o, inv);
+      if (near < 0 || near > best)
+        continue;
+      if (left[node] < 0) {
+        for (int i = -left[node] - 1, end = i + right[node]; i < end; i++) {
+          float t = rayTriangle(i, o, d);
+          if (t >= 0 && t < best)
+            best = t;
+        }
+        continue;
+      }
+      if (top + 2 > stack.length) {
+        int[] grown = new int[2 * stack.length];
+        System.arraycopy(stack, 0, grown, 0, top);
+        stack = grown;
+      }
+      stack[top++] = left[node];
+      stack[top++] = right[node];
+    }
+    return best == Float.MAX_VALUE ? -1 : best;
+  }
+
+  // Moller-Trumbore: returns the hit distance, or -1 if the triangle is missed
+  float rayTriangle(int tri, float[] o, float[] d) {
+    int i = 9 * tri;
+    float ax = tris[i], ay = tris[i + 1], az = tris[i + 2];
+    float e1x = tris[i + 3] - ax, e1y = tris[i + 4] - ay, e1z = tris[i + 5] - az;
+    float e2x = tris[i + 6] - ax, e2y = tris[i + 7] - ay, e2z = tris[i + 8] - az;
+    float px = d[1] * e2z - d[2] * e2y, py = d[2] * e2x - d[0] * e2z, pz = d[0] * e2y - d[1] * e2x;
+    float det = e1x * px + e1y * py + e1z * pz;
+    if (det > -1e-12f && det < 1e-12f)
+      return -1;
+    float invDet = 1 / det;
+    float sx = o[0] - ax, sy = o[1] - ay, sz = o[2] - az;
+    float u = (sx * px + sy * py + sz * pz) * invDet;
+    if (u < 0 || u > 1)
+      return -1;
+    float qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+    float v = (d[0] * qx + d[1] * qy + d[2] * qz) * invDet;
+    if (v < 0 || u + v > 1)
+      return -1;
+    float t = (e2x * qx + e2y * qy + e2z * qz) * invDet;
+    return t >= 0 ? t : -1;
+  }
+}
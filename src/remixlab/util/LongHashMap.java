@@ -0,0 +1,144 @@
+/**************************************************************************************
+ * util_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.util;
+
+/**
+ * Hash map from primitive {@code long} keys to objects, so that neither the keys are
+ * boxed nor entries are instantiated. Uses open addressing with linear probing and
+ * backward shift deletion. Null values are not supported.
+ */
+public class LongHashMap<V> {
+  protected long[] keys;
+  protected Object[] values;
+  protected int size, mask;
+
+  /**
+   * Constructs an empty map.
+   */
+  public LongHashMap() {
+    keys = new long[16];
+    values = new Object[16];
+    mask = 15;
+  }
+
+  /**
+   * Returns the number of entries in the map.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns {@code true} if the map has no entries.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the value mapped to the key, or null if there's none.
+   */
+  @SuppressWarnings("unchecked")
+  public V get(long key) {
+    for (int i = index(key); values[i] != null; i = (i + 1) & mask)
+      if (keys[i] == key)
+        return (V) values[i];
+    return null;
+  }
+
+  /**
+   * Returns {@code true} if there's a value mapped to the key.
+   */
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Maps the value to the key, returning the previously mapped value (or null).
+   */
+  @SuppressWarnings("unchecked")
+  public V put(long key, V value) {
+    if (value == null)
+      throw new NullPointerException("LongHashMap doesn't support null values");
+    int i = index(key);
+    for (; values[i] != null; i = (i + 1) & mask)
+      if (keys[i] == key) {
+        V old = (V) values[i];
+        values[i] = value;
+        return old;
+      }
+    keys[i] = key;
+    values[i] = value;
+    if (++size > (3 * keys.length) / 4)
+      grow();
+    return null;
+  }
+
+  /**
+   * Removes the key mapping, returning the previously mapped value (or null).
+   */
+  @SuppressWarnings("unchecked")
+  public V remove(long key) {
+    int i = index(key);
+    for (; values[i] != null; i = (i + 1) & mask)
+      if (keys[i] == key)
+        break;
+    if (values[i] == null)
+      return null;
+    V old = (V) values[i];
+    // backward shift the entries of the cluster that follows the removed one
+    int gap = i;
+    for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+      int home = index(keys[j]);
+      if (((j - home) & mask) >= ((j - gap) & mask)) {
+        keys[gap] = keys[j];
+        values[gap] = values[j];
+        gap = j;
+      }
+    }
+    values[gap] = null;
+    size--;
+    return old;
+  }
+
+  /**
+   * Removes all the entries from the map.
+   */
+  public void clear() {
+    for (int i = 0; i < values.length; i++)
+      values[i] = null;
+    size = 0;
+  }
+
+  protected int index(long key) {
+    // 64-bit mix (from MurmurHash3 finalizer) so that packed keys spread well
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return (int) key & mask;
+  }
+
+  protected void grow() {
+    long[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new long[2 * oldKeys.length];
+    values = new Object[2 * oldValues.length];
+    mask = keys.length - 1;
+    for (int i = 0; i < oldKeys.length; i++)
+      if (oldValues[i] != null) {
+        int j = index(oldKeys[i]);
+        while (values[j] != null)
+          j = (j + 1) & mask;
+        keys[j] = oldKeys[i];
+        values[j] = oldValues[i];
+      }
+  }
+}
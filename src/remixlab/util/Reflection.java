@@ -0,0 +1,34 @@
+/**************************************************************************************
+ * util_tree
+ * Copyright (c) 2014-2016 National University of Colombia, https://github.com/remixlab
+ * @author Jean Pierre Charalambos, http://otrolado.info/
+ *
+ * All rights reserved. Library that eases the creation of interactive
+ * scenes, released under the terms of the GNU Public License v3.0
+ * which is available at http://www.gnu.org/licenses/gpl.html
+ **************************************************************************************/
+
+package remixlab.util;
+
+import java.lang.reflect.AccessibleObject;
+
+/**
+ * Reflection utility functions used by the callback mechanisms of the framework. Kept
+ * apart from {@link remixlab.util.Util} since reflection is not available on all the
+ * framework targets.
+ */
+public class Reflection {
+  /**
+   * Tries to skip the language access checks at each {@code object} invocation. Returns
+   * {@code true} on success and {@code false} if a security manager denies it, in which
+   * case the access checks are simply performed at each invocation.
+   */
+  public static boolean setAccessible(AccessibleObject object) {
+    try {
+      object.setAccessible(true);
+      return true;
+    } catch (SecurityException e) {
+      return false;
+    }
+  }
+}
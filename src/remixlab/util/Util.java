@@ -42,6 +42,28 @@ public class Util {
     return FLOAT_EPS <= Math.abs(a - b);
   }
 
+  /**
+   * Returns the IEEE 754 bits of the value (collapsing all NaNs), as
+   * {@code Float.floatToIntBits} does. Use it (together with {@link #identical(float, float)})
+   * to implement allocation-free {@code hashCode()} and {@code equals()} methods which are
+   * consistent with those built with {@link remixlab.util.HashCodeBuilder} and
+   * {@link remixlab.util.EqualsBuilder}.
+   */
+  public static int hash(float a) {
+    return FloatUtil.floatToIntBits(a);
+  }
+
+  /**
+   * @return true if the two values have the same IEEE 754 bits (collapsing all NaNs),
+   * i.e., {@code hash(a) == hash(b)}.
+   */
+  public static boolean identical(float a, float b) {
+    if (a != b)
+      return a != a && b != b;
+    // tells 0 and -0 apart
+    return a != 0 || 1 / a == 1 / b;
+  }
+
   /**
    * @return true if the value is zero.
    */